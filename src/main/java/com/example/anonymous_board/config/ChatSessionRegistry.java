@@ -0,0 +1,179 @@
+package com.example.anonymous_board.config;
+
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.service.ChatEventPublisher;
+import com.example.anonymous_board.service.PresenceService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서버별 WebSocket 세션 목록 (사용자 ID -> 이 서버에 연결된 STOMP 세션)
+ * 사용자의 첫 세션이 연결되면 해당 사용자의 Redis 채널을 구독하고,
+ * 마지막 세션이 끊기면 구독을 해제하여 이 서버에 연결된 사용자의 이벤트만 처리 (접속 상태도 함께 갱신)
+ *
+ * 재연결 시 클라이언트가 CONNECT 헤더(last-event-id)로 마지막으로 받은 이벤트 ID를 보내면,
+ * 해당 세션이 /app/chat.replay를 구독할 때 그 이후 이벤트만 다시 보냄 (ChatWebSocketController)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionRegistry {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisMessageSubscriber redisMessageSubscriber;
+    private final PresenceService presenceService;
+
+    public static final String LAST_EVENT_ID_HEADER = "last-event-id";
+
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<String, Long> userBySession = new ConcurrentHashMap<>();
+    // 재전송 대기 중인 세션 -> 마지막으로 받은 이벤트 ID (재전송 요청 전까지 보관)
+    private final Map<String, String> pendingReplays = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long userId = extractUserId(event.getUser());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (userId == null || sessionId == null) {
+            return;
+        }
+
+        userBySession.put(sessionId, userId);
+        String lastEventId = extractLastEventId(event.getMessage());
+        if (lastEventId != null) {
+            pendingReplays.put(sessionId, lastEventId);
+        }
+        AtomicBoolean firstSession = new AtomicBoolean(false);
+        sessionsByUser.compute(userId, (id, sessions) -> {
+            if (sessions == null) {
+                sessions = ConcurrentHashMap.newKeySet();
+                firstSession.set(true);
+            }
+            sessions.add(sessionId);
+            return sessions;
+        });
+
+        // 채널 구독/접속 상태 갱신은 compute 밖에서 (Redis 호출 중 다른 세션 처리를 막지 않도록, 실패해도 연결은 유지)
+        if (firstSession.get()) {
+            // 이 서버에 처음 연결된 세션이면 사용자 채널 구독
+            syncSubscription(userId);
+            try {
+                presenceService.connected(userId);
+            } catch (Exception e) {
+                log.warn("접속 상태 갱신 실패: userId={}, {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 재연결 세션의 마지막 이벤트 ID (한 번만 반환)
+     */
+    public String takeLastEventId(String sessionId) {
+        return pendingReplays.remove(sessionId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        pendingReplays.remove(event.getSessionId());
+        Long userId = userBySession.remove(event.getSessionId());
+        if (userId == null) {
+            return;
+        }
+
+        AtomicBoolean lastSession = new AtomicBoolean(false);
+        sessionsByUser.computeIfPresent(userId, (id, sessions) -> {
+            sessions.remove(event.getSessionId());
+            if (!sessions.isEmpty()) {
+                return sessions;
+            }
+            lastSession.set(true);
+            return null;
+        });
+
+        // 마지막 세션이 끊기면 구독 해제 (접속 상태 갱신이 실패하면 TTL이 지나 오프라인 처리됨)
+        if (lastSession.get()) {
+            syncSubscription(userId);
+            try {
+                presenceService.disconnected(userId);
+            } catch (Exception e) {
+                log.warn("접속 상태 갱신 실패: userId={}, {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 사용자 채널 구독 상태를 현재 세션 목록에 맞춤 (세션이 있으면 구독, 없으면 해제)
+     * 구독/해제 중에 같은 사용자의 연결/해제가 겹쳐 세션 목록이 바뀌었으면 다시 맞춤
+     * (구독과 해제는 여러 번 호출해도 결과가 같으므로, 마지막으로 확인한 상태가 최종 상태가 됨)
+     */
+    private void syncSubscription(Long userId) {
+        ChannelTopic topic = new ChannelTopic(ChatEventPublisher.userChannel(userId));
+        boolean subscribed;
+        do {
+            subscribed = sessionsByUser.containsKey(userId);
+            if (subscribed) {
+                redisMessageListenerContainer.addMessageListener(redisMessageSubscriber, topic);
+                log.debug("사용자 채팅 채널 구독: userId={}", userId);
+            } else {
+                redisMessageListenerContainer.removeMessageListener(redisMessageSubscriber, topic);
+                log.debug("사용자 채팅 채널 구독 해제: userId={}", userId);
+            }
+        } while (subscribed != sessionsByUser.containsKey(userId));
+    }
+
+    /**
+     * 이 서버에 연결된 사용자의 접속 상태 갱신 (heartbeat)
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        try {
+            presenceService.refresh(sessionsByUser.keySet());
+        } catch (Exception e) {
+            log.warn("접속 상태 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 서버에 연결된 사용자인지 확인
+     */
+    public boolean isConnectedLocally(Long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    // CONNECTED 메시지에 포함된 원래 CONNECT 프레임의 헤더에서 마지막 이벤트 ID 추출
+    private String extractLastEventId(Message<?> connectedMessage) {
+        Object connectMessage = connectedMessage.getHeaders().get(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER);
+        if (connectMessage instanceof Message<?> message) {
+            String lastEventId = StompHeaderAccessor.wrap(message).getFirstNativeHeader(LAST_EVENT_ID_HEADER);
+            return lastEventId != null && !lastEventId.isBlank() ? lastEventId : null;
+        }
+        return null;
+    }
+
+    private Long extractUserId(Principal principal) {
+        if (principal instanceof UsernamePasswordAuthenticationToken token
+                && token.getPrincipal() instanceof Member member) {
+            return member.getId();
+        }
+        return null;
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.anonymous_board.config;
 
+import com.example.anonymous_board.service.AnnouncementRegistry;
+import com.example.anonymous_board.service.ChatEventPublisher;
+import com.example.anonymous_board.service.FeedPageCache;
+import com.example.anonymous_board.service.JwtBlacklistService;
+import com.example.anonymous_board.service.MemberPrincipalCache;
+import com.example.anonymous_board.service.PollResultBroadcaster;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -30,27 +36,32 @@ public class RedisConfig {
         return template;
     }
 
-    // ChannelTopic 설정
-    @Bean
-    public ChannelTopic chatTopic() {
-        return new ChannelTopic("chat");
-    }
-
     // RedisMessageListenerContainer 설정
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            MessageListenerAdapter messageListenerAdapter,
-            ChannelTopic chatTopic) {
+            RedisMessageSubscriber redisMessageSubscriber,
+            JwtBlacklistService jwtBlacklistService,
+            MemberPrincipalCache memberPrincipalCache,
+            AnnouncementRegistry announcementRegistry,
+            FeedPageCache feedPageCache) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(messageListenerAdapter, chatTopic);
+        // 채팅 이벤트는 사용자별 채널로 발행되며, 이 서버에 연결된 사용자의 채널만 ChatSessionRegistry가 구독
+        // 접속 상태 변경은 모든 서버가 구독 (상태가 바뀔 때만 발행되는 작은 메시지)
+        container.addMessageListener(redisMessageSubscriber,
+                new PatternTopic(ChatEventPublisher.PRESENCE_CHANNEL_PREFIX + "*"));
+        // 투표 결과 변경도 모든 서버가 구독 (게시글별로 주기당 한 번만 발행)
+        container.addMessageListener(redisMessageSubscriber,
+                new PatternTopic(PollResultBroadcaster.RESULT_CHANNEL_PREFIX + "*"));
+        // JWT 블랙리스트 추가 알림 (서버별 로컬 캐시 동기화)
+        container.addMessageListener(jwtBlacklistService, new ChannelTopic(JwtBlacklistService.BLACKLIST_CHANNEL));
+        // 사용자 정보 변경 알림 (서버별 인증 사용자 캐시 제거)
+        container.addMessageListener(memberPrincipalCache, new ChannelTopic(MemberPrincipalCache.EVICT_CHANNEL));
+        // 공지사항 변경 알림 (서버별 공지사항 목록 다시 불러오기)
+        container.addMessageListener(announcementRegistry, new ChannelTopic(AnnouncementRegistry.CHANGED_CHANNEL));
+        // 게시글 작성/삭제 알림 (서버별 게시글 목록 캐시 비우기)
+        container.addMessageListener(feedPageCache, new ChannelTopic(FeedPageCache.INVALIDATE_CHANNEL));
         return container;
     }
-
-    // MessageListenerAdapter 설정
-    @Bean
-    public MessageListenerAdapter messageListenerAdapter(RedisMessageSubscriber subscriber) {
-        return new MessageListenerAdapter(subscriber, "onMessage");
-    }
 }
@@ -1,9 +1,7 @@
 package com.example.anonymous_board.config;
 
-import com.example.anonymous_board.dto.MessageDto;
-import com.example.anonymous_board.dto.ReadStatusDto;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.anonymous_board.service.ChatEventPublisher;
+import com.example.anonymous_board.service.PollResultBroadcaster;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,15 +10,21 @@ import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Redis Pub/Sub 메시지 구독자
- * Redis에서 메시지를 받아 WebSocket으로 전달
+ * 사용자별 채널(chat:user:{userId})에서 메시지를 받아 해당 사용자의 WebSocket 토픽으로 전달
+ * (구독은 ChatSessionRegistry가 이 서버에 연결된 사용자에 대해서만 등록)
+ * 접속 상태 채널(chat:presence:*)은 모든 서버가 구독하여 /topic/presence.{userId} 로 전달
+ * 투표 결과 채널(poll:results:*)도 모든 서버가 구독하여 /topic/poll.{postId} 로 전달
  */
 @Slf4j
 @Component
@@ -28,80 +32,30 @@ import java.util.List;
 public class RedisMessageSubscriber implements MessageListener {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final ObjectMapper objectMapper;
 
-    // Redis에서 메시지를 받아 WebSocket으로 전달
+    // Redis에서 받은 이벤트를 채널의 사용자에게 WebSocket으로 전달
+    // ChatEvent 봉투(JSON)를 다시 파싱하지 않고 그대로 STOMP 본문으로 사용
     @Override
     public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
         try {
-            String rawMessage = new String(message.getBody());
-            log.info("Redis 원본 메시지: {}", rawMessage);
-
-            // GenericJackson2JsonRedisSerializer로 인해 이중 JSON 인코딩됨
-            String jsonString;
-            if (rawMessage.startsWith("\"") && rawMessage.endsWith("\"")) {
-                jsonString = objectMapper.readValue(rawMessage, String.class);
-            } else {
-                jsonString = rawMessage;
-            }
-
-            // JSON을 먼저 JsonNode로 파싱하여 타입 확인
-            JsonNode node = objectMapper.readTree(jsonString);
-
-            if (node.has("messageIds")) {
-                // ReadStatusDto인 경우 - 읽음 상태 업데이트
-                // GenericJackson2JsonRedisSerializer로 인한 타입 정보 제거
-                ReadStatusDto readStatus = new ReadStatusDto();
-                readStatus.setSenderId(node.get("senderId").asLong());
-                readStatus.setReceiverId(node.get("receiverId").asLong());
-
-                // messageIds 배열 수동 파싱 (타입 정보 무시)
-                List<Long> messageIds = new ArrayList<>();
-                JsonNode messageIdsNode = node.get("messageIds");
-                if (messageIdsNode.isArray()) {
-                    for (JsonNode idNode : messageIdsNode) {
-                        // 타입 정보 무시하고 숫자만 추출
-                        if (idNode.isNumber()) {
-                            messageIds.add(idNode.asLong());
-                        } else if (idNode.isArray()) {
-                            // ["java.util.ArrayList", [115]] 형식 처리
-                            for (JsonNode innerNode : idNode) {
-                                if (innerNode.isNumber()) {
-                                    messageIds.add(innerNode.asLong());
-                                }
-                            }
-                        }
-                    }
-                }
-                readStatus.setMessageIds(messageIds);
-
-                log.info("읽음 상태 수신: senderId={}, messageIds={}",
-                        readStatus.getSenderId(), readStatus.getMessageIds());
-
-                // 발신자에게만 전송 (메시지를 보낸 사람이 읽음 상태를 확인)
-                String senderTopic = "/topic/chat.user." + readStatus.getSenderId();
-                messagingTemplate.convertAndSend(senderTopic, readStatus);
-                log.info("읽음 상태 전송: {}", senderTopic);
-
+            // 채널 이름에서 이벤트를 받을 토픽 결정
+            // chat:user:{userId} -> 해당 사용자, chat:presence:{userId} -> 해당 사용자의 접속 상태를 보는 사용자들
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            String userTopic;
+            if (channel.startsWith(ChatEventPublisher.PRESENCE_CHANNEL_PREFIX)) {
+                userTopic = "/topic/presence." + channel.substring(ChatEventPublisher.PRESENCE_CHANNEL_PREFIX.length());
+            } else if (channel.startsWith(PollResultBroadcaster.RESULT_CHANNEL_PREFIX)) {
+                // poll:results:{postId} -> 게시글 상세 화면을 보고 있는 사용자들
+                userTopic = "/topic/poll." + channel.substring(PollResultBroadcaster.RESULT_CHANNEL_PREFIX.length());
             } else {
-                // MessageDto인 경우 - 일반 채팅 메시지
-                MessageDto chatMessage = objectMapper.readValue(jsonString, MessageDto.class);
-
-                log.info("채팅 메시지 수신: senderId={}, receiverId={}",
-                        chatMessage.getSenderId(), chatMessage.getReceiverId());
-
-                // 수신자에게 전송
-                String receiverTopic = "/topic/chat.user." + chatMessage.getReceiverId();
-                messagingTemplate.convertAndSend(receiverTopic, chatMessage);
-                log.info("수신자에게 전송: {}", receiverTopic);
-
-                // 발신자에게도 전송 (본인이 보낸 메시지 확인용)
-                String senderTopic = "/topic/chat.user." + chatMessage.getSenderId();
-                messagingTemplate.convertAndSend(senderTopic, chatMessage);
-                log.info("발신자에게 전송: {}", senderTopic);
+                userTopic = "/topic/chat.user." + channel.substring(ChatEventPublisher.USER_CHANNEL_PREFIX.length());
             }
 
-            log.info("WebSocket 메시지 전송 완료");
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(userTopic, MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+            log.debug("채팅 이벤트 전송: {}", userTopic);
 
         } catch (Exception e) {
             log.error("Redis 메시지 처리 실패: {}", e.getMessage(), e);
@@ -0,0 +1,90 @@
+package com.example.anonymous_board.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 스키마 마이그레이션 (PostgreSQL)
+ * 엔티티로 표현할 수 없는 스키마 변경(확장, 인덱스, 데이터 보정 등)을 classpath:db/migration/postgresql/ 의 SQL로 적용
+ * - 마이그레이션마다 한 번만 실행하고 schema_migration 테이블에 기록 (SQL과 기록을 한 트랜잭션으로 처리)
+ * - 실패하면 애플리케이션 시작을 중단 (일부만 적용된 스키마로 동작하지 않도록)
+ * 요청을 받기 전에 실행되어야 하므로 lazy-initialization 대상에서 제외하고 스키마 생성(EntityManagerFactory) 이후에 실행
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class SchemaMigrationInitializer {
+
+    private static final String LOCATION = "db/migration/postgresql/";
+
+    // 적용 순서대로 추가 (이미 적용된 이름은 바꾸지 않음)
+    private static final List<String> MIGRATIONS = List.of(
+            "V1__view_count_flush",
+            "V2__post_search_trgm",
+            "V3__user_conversation_unique",
+            "V4__poll_vote_unique",
+            "V5__post_stats_backfill",
+            "V6__id_sequence_align");
+
+    // 여러 서버가 동시에 시작해도 마이그레이션은 한 서버에서만 실행
+    private static final long MIGRATION_LOCK_ID = 7_310_001L;
+
+    private static final String CREATE_HISTORY_SQL = "CREATE TABLE IF NOT EXISTS schema_migration ("
+            + "name VARCHAR(100) PRIMARY KEY, applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // entityManagerFactory: 스키마(테이블) 생성 이후에 실행되도록 의존성만 추가
+    public SchemaMigrationInitializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return;
+        }
+
+        jdbcTemplate.execute(CREATE_HISTORY_SQL);
+        for (String name : MIGRATIONS) {
+            transactionTemplate.executeWithoutResult(status -> apply(name));
+        }
+    }
+
+    private void apply(String name) {
+        // 트랜잭션이 끝나면 자동으로 풀림
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + MIGRATION_LOCK_ID + ")");
+
+        Long applied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM schema_migration WHERE name = ?", Long.class, name);
+        if (applied != null && applied > 0) {
+            return;
+        }
+
+        EncodedResource script = new EncodedResource(
+                new ClassPathResource(LOCATION + name + ".sql"), StandardCharsets.UTF_8);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            ScriptUtils.executeSqlScript(connection, script);
+            return null;
+        });
+        jdbcTemplate.update("INSERT INTO schema_migration (name) VALUES (?)", name);
+        log.info("스키마 마이그레이션 적용: {}", name);
+    }
+}
@@ -6,8 +6,8 @@ import com.example.anonymous_board.auth.oauth.HttpCookieOAuth2AuthorizationReque
 import com.example.anonymous_board.auth.oauth.OAuth2AuthenticationFailureHandler;
 import com.example.anonymous_board.config.jwt.JwtAuthenticationFilter;
 import com.example.anonymous_board.config.jwt.JwtTokenProvider;
-import com.example.anonymous_board.repository.UserRepository;
 import com.example.anonymous_board.service.JwtBlacklistService;
+import com.example.anonymous_board.service.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,7 +32,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
         private final JwtTokenProvider jwtTokenProvider;
-        private final UserRepository userRepository;
+        private final MemberPrincipalCache memberPrincipalCache;
         private final CustomOAuth2UserService customOAuth2UserService;
         private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
         private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
@@ -124,7 +124,7 @@ public class SecurityConfig {
                                                 .permitAll())
                                 // JWT 필터 등록
                                 .addFilterBefore(
-                                                new JwtAuthenticationFilter(jwtTokenProvider, userRepository,
+                                                new JwtAuthenticationFilter(jwtTokenProvider, memberPrincipalCache,
                                                                 jwtBlacklistService),
                                                 UsernamePasswordAuthenticationFilter.class);
 
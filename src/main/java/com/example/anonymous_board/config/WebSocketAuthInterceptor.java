@@ -1,8 +1,8 @@
 package com.example.anonymous_board.config;
 
 import com.example.anonymous_board.config.jwt.JwtTokenProvider;
-import com.example.anonymous_board.domain.Member;
-import com.example.anonymous_board.repository.UserRepository;
+import com.example.anonymous_board.domain.MemberPrincipal;
+import com.example.anonymous_board.service.MemberPrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +29,7 @@ import java.util.Collections;
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     // WebSocket 연결 전 인증 처리
     @Override
@@ -44,21 +44,21 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             // 토큰 검증
             if (token != null && jwtTokenProvider.validateToken(token)) {
                 try {
-                    // 이메일로 사용자 조회
+                    // 이메일로 사용자 조회 (인증 사용자 캐시)
                     String email = jwtTokenProvider.getEmail(token);
-                    Member member = userRepository.findByEmail(email).orElse(null);
+                    MemberPrincipal principal = memberPrincipalCache.getByEmail(email);
 
-                    if (member != null) {
+                    if (principal != null) {
                         // 인증 객체 생성
                         UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                                member,
+                                principal.toMember(),
                                 null,
                                 Collections
-                                        .singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().name())));
+                                        .singletonList(new SimpleGrantedAuthority("ROLE_" + principal.role().name())));
 
                         // 인증 정보 설정
                         accessor.setUser(auth);
-                        log.debug("WebSocket 인증 성공: {}", member.getNickname());
+                        log.debug("WebSocket 인증 성공: {}", principal.nickname());
                     }
                 } catch (Exception e) {
                     log.error("WebSocket 인증 실패: {}", e.getMessage());
@@ -1,31 +1,77 @@
 package com.example.anonymous_board.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
-
-import lombok.RequiredArgsConstructor;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 설정
  * STOMP 프로토콜을 사용한 실시간 채팅 지원
+ * - 수신/전송 스레드 풀은 고정 크기 + 대기열 (ThreadPoolExecutor는 대기열이 가득 차기 전에는 core 이상으로 늘지 않으므로
+ *   core = max로 두고 처리량에 맞게 pool-size를 설정)
+ * - 세션별 전송 시간/버퍼 제한을 넘는 느린 클라이언트는 연결 종료 (다른 세션 전송이 밀리지 않도록)
+ * - 서버 heartbeat로 끊어진 연결을 빨리 정리
  */
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String HEARTBEAT_SCHEDULER = "webSocketHeartbeatScheduler";
+
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    private final TaskScheduler heartbeatScheduler;
+
+    @Value("${websocket.inbound.pool-size:8}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.outbound.pool-size:8}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.send-buffer-size-kb:512}")
+    private int sendBufferSizeKb;
+
+    @Value("${websocket.message-size-kb:64}")
+    private int messageSizeKb;
+
+    @Value("${websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    public WebSocketConfig(WebSocketAuthInterceptor webSocketAuthInterceptor,
+            WebSocketSessionMonitor webSocketSessionMonitor,
+            @Qualifier(HEARTBEAT_SCHEDULER) TaskScheduler heartbeatScheduler) {
+        this.webSocketAuthInterceptor = webSocketAuthInterceptor;
+        this.webSocketSessionMonitor = webSocketSessionMonitor;
+        this.heartbeatScheduler = heartbeatScheduler;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 주제 prefix
         // /topic: 1:N 브로드캐스트
         // /queue: 1:1 개인 메시지
-        config.enableSimpleBroker("/topic", "/queue");
+        // heartbeat: 서버 -> 클라이언트, 클라이언트 -> 서버 (ms)
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[] { heartbeatMs, heartbeatMs })
+                .setTaskScheduler(heartbeatScheduler);
 
         // 클라이언트가 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -36,7 +82,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        // WebSocket 연결 엔드포인트
+        // 기본 WebSocket 연결 엔드포인트 (SockJS 프레임 오버헤드 없음)
+        registry.addEndpoint("/ws/stomp")
+                .setAllowedOriginPatterns("*");
+
+        // WebSocket을 사용할 수 없는 환경을 위한 SockJS 대체 엔드포인트
         registry.addEndpoint("/ws/chat")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
@@ -44,7 +94,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize)
+                .queueCapacity(inboundQueueCapacity);
         // WebSocket 인증 인터셉터 등록
         registration.interceptors(webSocketAuthInterceptor);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        // 세션별 전송 대기 메시지 수 / 버려진 메시지 수 집계
+        registration.interceptors(webSocketSessionMonitor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 제한을 넘으면 해당 세션을 SESSION_NOT_RELIABLE로 종료
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeKb * 1024)
+                .setMessageSizeLimit(messageSizeKb * 1024)
+                .addDecoratorFactory(webSocketSessionMonitor);
+    }
+
+    // heartbeat 전용 스케줄러
+    // 기본 후보에서 제외해서 @Scheduled 기본 스케줄러(taskScheduler)를 대체하지 않고 이름으로만 주입
+    // static: 이 설정 클래스 생성 전에 만들어져 생성자에서 주입 가능 (종료 시 컨테이너가 shutdown)
+    @Bean(name = HEARTBEAT_SCHEDULER, destroyMethod = "shutdown", defaultCandidate = false)
+    static ThreadPoolTaskScheduler webSocketHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
 }
@@ -0,0 +1,131 @@
+package com.example.anonymous_board.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 세션별 전송 현황
+ * - 세션별 전송 대기 메시지 수 (clientOutboundChannel 실행 대기열 기준)
+ * - 전송 제한(시간/버퍼)을 넘어 강제로 종료된 느린 세션 수
+ * - 버려진 메시지 수 (종료된 세션으로 가는 메시지, 전송 스레드 풀 포화로 거부된 메시지)
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMonitor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    // 세션 ID -> 전송 대기 메시지 수
+    private final Map<String, AtomicInteger> pendingBySession = new ConcurrentHashMap<>();
+
+    private final AtomicLong evictedSessions = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    @Override
+    @NonNull
+    public WebSocketHandler decorate(@NonNull WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+                pendingBySession.put(session.getId(), new AtomicInteger());
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus closeStatus)
+                    throws Exception {
+                pendingBySession.remove(session.getId());
+                // 전송 시간/버퍼 제한을 넘으면 SESSION_NOT_RELIABLE로 종료됨
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    evictedSessions.incrementAndGet();
+                    log.warn("느린 WebSocket 세션 종료: sessionId={}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // 전송 대기열에 들어가기 전 (보내는 쪽 스레드)
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            AtomicInteger pending = pendingBySession.get(sessionId);
+            if (pending == null) {
+                // 이미 종료된 세션
+                droppedMessages.incrementAndGet();
+            } else {
+                pending.incrementAndGet();
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent,
+            @Nullable Exception ex) {
+        if (!sent || ex != null) {
+            // 실행 대기열이 가득 차 거부됨
+            droppedMessages.incrementAndGet();
+            decrement(message);
+        }
+    }
+
+    // 전송 스레드에서 처리 완료
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+            @NonNull MessageHandler handler, @Nullable Exception ex) {
+        decrement(message);
+    }
+
+    private void decrement(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            AtomicInteger pending = pendingBySession.get(sessionId);
+            if (pending != null) {
+                pending.updateAndGet(value -> Math.max(0, value - 1));
+            }
+        }
+    }
+
+    /**
+     * 현재 현황 (전송 대기 메시지가 많은 세션 순으로 최대 limit개)
+     */
+    public Map<String, Object> snapshot(int limit) {
+        List<Map.Entry<String, AtomicInteger>> top = pendingBySession.entrySet().stream()
+                .filter(entry -> entry.getValue().get() > 0)
+                .sorted(Comparator.comparingInt((Map.Entry<String, AtomicInteger> entry) -> entry.getValue().get())
+                        .reversed())
+                .limit(limit)
+                .toList();
+
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        top.forEach(entry -> pending.put(entry.getKey(), entry.getValue().get()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessions", pendingBySession.size());
+        stats.put("evictedSessions", evictedSessions.get());
+        stats.put("droppedMessages", droppedMessages.get());
+        stats.put("pendingBySession", pending);
+        return stats;
+    }
+}
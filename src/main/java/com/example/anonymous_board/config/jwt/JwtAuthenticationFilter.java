@@ -1,8 +1,8 @@
 package com.example.anonymous_board.config.jwt;
 
-import com.example.anonymous_board.domain.Member;
-import com.example.anonymous_board.repository.UserRepository;
+import com.example.anonymous_board.domain.MemberPrincipal;
 import com.example.anonymous_board.service.JwtBlacklistService;
+import com.example.anonymous_board.service.MemberPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -25,7 +25,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
     private final JwtBlacklistService jwtBlacklistService;
 
     @Override
@@ -44,22 +44,23 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
                 return;
             }
 
+            // 사용자 정보는 캐시에서 조회 (짧은 TTL, 정보 변경 시 즉시 제거)
             String email = jwtTokenProvider.getEmail(token);
-            Member member = userRepository.findByEmail(email).orElse(null);
+            MemberPrincipal principal = memberPrincipalCache.getByEmail(email);
 
-            if (member != null) {
+            if (principal != null) {
                 // 정지된 사용자 확인
-                if (member.isCurrentlySuspended()) {
-                    log.debug("정지된 사용자: {}", member.getEmail());
+                if (principal.isCurrentlySuspended()) {
+                    log.debug("정지된 사용자: {}", principal.email());
                     chain.doFilter(request, response);
                     return;
                 }
 
                 // Role.getKey()는 이미 "ROLE_ADMIN" 형식을 반환함
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority(member.getRole().getKey());
+                SimpleGrantedAuthority authority = new SimpleGrantedAuthority(principal.role().getKey());
 
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
-                        member,
+                        principal.toMember(),
                         null,
                         Collections.singletonList(authority));
 
@@ -0,0 +1,32 @@
+package com.example.anonymous_board.controllers.api;
+
+import com.example.anonymous_board.config.WebSocketSessionMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/websocket")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminWebSocketController {
+
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    private final WebSocketMessageBrokerStats webSocketMessageBrokerStats;
+
+    // WebSocket 세션/전송 현황 (세션별 전송 대기 메시지 수, 느린 세션 종료 수, 버려진 메시지 수, 스레드 풀 상태)
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats(@RequestParam(defaultValue = "20") int limit) {
+        Map<String, Object> stats = new LinkedHashMap<>(webSocketSessionMonitor.snapshot(Math.max(1, limit)));
+        stats.put("broker", webSocketMessageBrokerStats.toString());
+        return ResponseEntity.ok(stats);
+    }
+}
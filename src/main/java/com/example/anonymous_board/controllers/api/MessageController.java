@@ -17,14 +17,16 @@ public class MessageController {
 
     private final MessageService messageService;
 
-    // 대화 조회
+    // 대화 조회 (최신 메시지부터, before: 이전 응답의 nextCursor)
     @GetMapping("/{receiverId}")
     public ResponseEntity<ConversationDto> getConversation(@AuthenticationPrincipal Member member,
-            @PathVariable Long receiverId) {
+            @PathVariable Long receiverId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "30") int limit) {
         if (member == null) {
             return ResponseEntity.status(401).build();
         }
-        ConversationDto conversation = messageService.getConversation(member.getId(), receiverId);
+        ConversationDto conversation = messageService.getConversation(member.getId(), receiverId, before, limit);
         return ResponseEntity.ok(conversation);
     }
 
@@ -3,21 +3,32 @@ package com.example.anonymous_board.controllers.api;
 import com.example.anonymous_board.domain.BoardType;
 import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Post;
+import com.example.anonymous_board.dto.CommentResponse;
+import com.example.anonymous_board.dto.KeysetCursor;
 import com.example.anonymous_board.dto.PostCreateRequest;
 import com.example.anonymous_board.dto.PostResponse;
+import com.example.anonymous_board.dto.PostSearchResponse;
+import com.example.anonymous_board.dto.PostSummaryResponse;
 import com.example.anonymous_board.dto.PostUpdateRequest;
 import com.example.anonymous_board.dto.VoteRequest;
+import com.example.anonymous_board.service.AnnouncementRegistry;
+import com.example.anonymous_board.service.CommentService;
+import com.example.anonymous_board.service.FeedPageCache;
 import com.example.anonymous_board.service.PostService;
 import com.example.anonymous_board.service.ViewCountService;
 import com.example.anonymous_board.dto.PollVoteRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +41,10 @@ import static java.util.Collections.singletonMap;
 public class PostController {
 
     private final PostService postService;
+    private final CommentService commentService;
     private final ViewCountService viewCountService;
+    private final AnnouncementRegistry announcementRegistry;
+    private final FeedPageCache feedPageCache;
 
     // 1. 게시글 생성 API
     @PostMapping
@@ -59,24 +73,31 @@ public class PostController {
             @RequestParam(required = false) String boardType,
             @AuthenticationPrincipal Member currentUser) {
 
-        Page<Post> postPage;
+        BoardType type = null;
 
         // boardType이 지정되면 해당 게시판의 글만 조회
         if (boardType != null && !boardType.equals("all")) {
             try {
-                BoardType type = BoardType.valueOf(boardType.toUpperCase());
-                postPage = postService.getAllPostsByBoardType(page, size, sortBy, type);
+                type = BoardType.valueOf(boardType.toUpperCase());
             } catch (IllegalArgumentException e) {
                 // 잘못된 boardType인 경우 전체 조회
-                postPage = postService.getAllPosts(page, size, sortBy);
             }
-        } else {
-            postPage = postService.getAllPosts(page, size, sortBy);
         }
 
-        List<PostResponse> posts = postPage.getContent().stream()
-                .map(post -> new PostResponse(post, currentUser))
-                .collect(Collectors.toList());
+        // 일반 게시글 (앞쪽 페이지는 FeedPageCache에서 공용 DTO로 조회)
+        Page<PostSummaryResponse> regularPage = feedPageCache.getPage(type, sortBy, page, size);
+
+        // 첫 페이지에만 공지사항을 포함 (메모리 스냅샷, DB 조회 없음)
+        List<PostSummaryResponse> snapshots = new ArrayList<>();
+        if (page == 0) {
+            snapshots.addAll(announcementRegistry.getAnnouncements(type));
+        }
+        int announcementCount = snapshots.size();
+        snapshots.addAll(regularPage.getContent());
+
+        Page<PostSummaryResponse> postPage = withAnnouncements(
+                forViewer(snapshots, currentUser), announcementCount, regularPage, page, size);
+        List<PostSummaryResponse> posts = postPage.getContent();
 
         Map<String, Object> response = new HashMap<>();
         response.put("posts", posts);
@@ -97,11 +118,31 @@ public class PostController {
             @RequestParam(defaultValue = "10") int size,
             @AuthenticationPrincipal Member currentUser) {
 
-        Page<Post> postPage = postService.searchPosts(keyword, page, size);
+        Page<Post> regularPage = postService.searchPosts(keyword, page, size);
 
-        List<PostResponse> posts = postPage.getContent().stream()
-                .map(post -> new PostResponse(post, currentUser))
-                .collect(Collectors.toList());
+        // 첫 페이지에만 검색된 공지사항을 포함 (메모리 스냅샷, DB 조회 없음)
+        List<AnnouncementRegistry.Announcement> announcements = page == 0
+                ? announcementRegistry.search(keyword)
+                : List.of();
+
+        // 검색어 하이라이트 포함
+        List<Long> ids = new ArrayList<>();
+        announcements.forEach(announcement -> ids.add(announcement.summary().getId()));
+        regularPage.getContent().forEach(post -> ids.add(post.getId()));
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(ids);
+
+        List<PostSearchResponse> results = new ArrayList<>();
+        for (AnnouncementRegistry.Announcement announcement : announcements) {
+            PostSummaryResponse summary = announcement.summary();
+            results.add(new PostSearchResponse(summary, announcement.content(), currentUser,
+                    pendingViewCounts.getOrDefault(summary.getId(), 0L), keyword));
+        }
+        for (Post post : regularPage.getContent()) {
+            results.add(new PostSearchResponse(post, currentUser,
+                    pendingViewCounts.getOrDefault(post.getId(), 0L), keyword));
+        }
+        Page<PostSearchResponse> postPage = withAnnouncements(results, announcements.size(), regularPage, page, size);
+        List<PostSearchResponse> posts = postPage.getContent();
 
         Map<String, Object> response = new HashMap<>();
         response.put("content", posts);
@@ -126,9 +167,7 @@ public class PostController {
 
         Page<Post> postPage = postService.getHotPosts(page, size);
 
-        List<PostResponse> posts = postPage.getContent().stream()
-                .map(post -> new PostResponse(post, currentUser))
-                .collect(Collectors.toList());
+        List<PostSummaryResponse> posts = toPostSummaries(postPage.getContent(), currentUser);
 
         Map<String, Object> response = new HashMap<>();
         response.put("content", posts);
@@ -144,6 +183,44 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    // 4-1. 커서 기반 피드 조회 API (무한 스크롤용, /{id}보다 먼저 선언해야 함)
+    // after: 이전 응답의 nextCursor (없으면 첫 페이지, 첫 페이지에만 공지사항 포함)
+    @GetMapping("/feed")
+    public ResponseEntity<Map<String, Object>> getFeed(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String boardType,
+            @AuthenticationPrincipal Member currentUser) {
+
+        BoardType type = null;
+        if (boardType != null && !boardType.equals("all")) {
+            try {
+                type = BoardType.valueOf(boardType.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // 잘못된 boardType인 경우 전체 조회
+            }
+        }
+
+        Slice<Post> feed = postService.getFeed(type, after, limit);
+        List<Post> content = feed.getContent();
+
+        String nextCursor = null;
+        if (feed.hasNext() && !content.isEmpty()) {
+            Post last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", toPostSummaries(content, currentUser));
+        if (after == null || after.isBlank()) {
+            response.put("announcements", forViewer(announcementRegistry.getAnnouncements(type), currentUser));
+        }
+        response.put("nextCursor", nextCursor);
+        response.put("hasNext", feed.hasNext());
+
+        return ResponseEntity.ok(response);
+    }
+
     // 5. 게시글 단건 조회 API
     @GetMapping("/{id}")
     public ResponseEntity<PostResponse> getPostById(@PathVariable("id") Long id,
@@ -155,13 +232,49 @@ public class PostController {
                 ? "user:" + currentUser.getId()
                 : "ip:" + getClientIp(request);
 
-        // Redis에서 중복 조회 확인 후 조회수 증가
-        if (viewCountService.canIncrementViewCount(id, viewerIdentifier)) {
-            postService.incrementViewCount(id);
-        }
-
         Post post = postService.getPostById(id);
-        return ResponseEntity.ok(new PostResponse(post, currentUser));
+
+        // Redis에서 중복 조회 확인 후 조회수 증가 (DB 반영은 ViewCountService가 주기적으로 일괄 처리)
+        long pendingViewCount = viewCountService.canIncrementViewCount(id, viewerIdentifier)
+                ? viewCountService.incrementViewCount(id)
+                : viewCountService.getPendingViewCount(id);
+
+        // 댓글은 작성자와 함께 한 번에 조회 후 계층 구조로 변환
+        List<CommentResponse> comments = commentService.getCommentsByPostId(id, currentUser);
+
+        return ResponseEntity.ok(new PostResponse(post, currentUser, pendingViewCount, comments));
+    }
+
+    // 목록 응답 변환 (댓글 트리 없이 요약 정보만, 아직 DB에 반영되지 않은 조회수 증가분 포함)
+    private List<PostSummaryResponse> toPostSummaries(List<Post> posts, Member currentUser) {
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(
+                posts.stream().map(Post::getId).collect(Collectors.toList()));
+
+        return posts.stream()
+                .map(post -> new PostSummaryResponse(post, currentUser,
+                        pendingViewCounts.getOrDefault(post.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    // 공용 DTO(공지사항 스냅샷, 목록 캐시)에 현재 사용자 기준 값 채우기 (작성자 여부, 미반영 조회수)
+    private List<PostSummaryResponse> forViewer(List<PostSummaryResponse> snapshots, Member currentUser) {
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(
+                snapshots.stream().map(PostSummaryResponse::getId).collect(Collectors.toList()));
+
+        return snapshots.stream()
+                .map(snapshot -> snapshot.forViewer(currentUser,
+                        pendingViewCounts.getOrDefault(snapshot.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    // 공지사항을 포함한 페이지 (공지사항은 첫 페이지에만 있고, 전체 개수에 포함)
+    private <T> Page<T> withAnnouncements(List<T> content, int announcementCount, Page<?> regularPage,
+            int page, int size) {
+        if (announcementCount == 0) {
+            return new PageImpl<>(content, regularPage.getPageable(), regularPage.getTotalElements());
+        }
+        return new PageImpl<>(content, PageRequest.of(page, size),
+                announcementCount + regularPage.getTotalElements());
     }
 
     // 클라이언트 IP 추출 (프록시 고려)
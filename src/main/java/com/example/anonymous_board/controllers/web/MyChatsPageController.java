@@ -4,13 +4,14 @@ import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.dto.ConversationSummaryDto;
 import com.example.anonymous_board.service.MessageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
 
 @Controller
 @RequestMapping("/my-chats")
@@ -19,15 +20,24 @@ public class MyChatsPageController {
 
     private final MessageService messageService;
 
+    // 한 페이지에 표시할 대화방 수
+    private static final int PAGE_SIZE = 20;
+
     @GetMapping
-    public String myChatsPage(@AuthenticationPrincipal Member member, Model model) {
+    public String myChatsPage(@AuthenticationPrincipal Member member,
+            @RequestParam(defaultValue = "0") int page,
+            Model model) {
         // 로그인 체크
         if (member == null) {
             return "redirect:/login";
         }
         // 데이터 조회(상대방과의 대화)
-        List<ConversationSummaryDto> conversations = messageService.getConversationSummaries(member.getId());
-        model.addAttribute("conversations", conversations);
+        Page<ConversationSummaryDto> conversations = messageService.getConversationSummaries(member.getId(),
+                page, PAGE_SIZE);
+        model.addAttribute("conversations", conversations.getContent());
+        model.addAttribute("currentPage", conversations.getNumber());
+        model.addAttribute("hasNext", conversations.hasNext());
+        model.addAttribute("hasPrevious", conversations.hasPrevious());
         model.addAttribute("currentUserId", member.getId());
         return "my-chats";
     }
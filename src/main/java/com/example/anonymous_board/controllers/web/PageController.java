@@ -22,9 +22,8 @@ public class PageController {
         Page<Post> hotPosts = postService.getHotPosts(0, 5);
         model.addAttribute("hotPosts", hotPosts.getContent());
 
-        // 최신 게시글 상위 5개 가져오기
-        Page<Post> recentPosts = postService.getAllPosts(0, 5, "latest");
-        model.addAttribute("recentPosts", recentPosts.getContent());
+        // 최신 게시글 상위 5개 가져오기 (공지사항 제외, count 쿼리 없는 커서 피드 첫 페이지)
+        model.addAttribute("recentPosts", postService.getFeed(null, null, 5).getContent());
 
         return "index";
     }
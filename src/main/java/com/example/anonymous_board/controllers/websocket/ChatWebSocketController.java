@@ -1,22 +1,30 @@
 package com.example.anonymous_board.controllers.websocket;
 
+import com.example.anonymous_board.config.ChatSessionRegistry;
 import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.dto.ChatEvent;
 import com.example.anonymous_board.dto.ChatMessageRequest;
 import com.example.anonymous_board.dto.MessageDto;
 import com.example.anonymous_board.dto.MessageCreateRequest;
+import com.example.anonymous_board.dto.PresenceDto;
+import com.example.anonymous_board.service.ChatEventCodec;
+import com.example.anonymous_board.service.ChatEventPublisher;
 import com.example.anonymous_board.service.MessageService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.anonymous_board.service.PresenceService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
+import java.util.List;
 
 /**
  * WebSocket 채팅 컨트롤러
@@ -28,10 +36,10 @@ import java.security.Principal;
 public class ChatWebSocketController {
 
     private final MessageService messageService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
-
-    private static final String CHAT_CHANNEL = "chat";
+    private final ChatEventPublisher chatEventPublisher;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final PresenceService presenceService;
+    private final ChatEventCodec chatEventCodec;
 
     /**
      * 채팅 메시지 전송
@@ -40,7 +48,7 @@ public class ChatWebSocketController {
     @MessageMapping("/chat.send")
     public void sendMessage(@Payload ChatMessageRequest request, Principal principal) {
         try {
-            log.info("sendMessage 호출됨 - principal: {}", principal);
+            log.debug("sendMessage 호출됨 - principal: {}", principal);
 
             if (principal == null) {
                 log.warn("인증되지 않은 사용자의 메시지 전송 시도");
@@ -54,22 +62,17 @@ public class ChatWebSocketController {
                 return;
             }
 
-            log.info("메시지 전송: senderId={}, receiverId={}, content={}",
-                    sender.getId(), request.getReceiverId(), request.getContent());
+            log.debug("메시지 전송: senderId={}, receiverId={}", sender.getId(), request.getReceiverId());
 
             // MessageCreateRequest로 변환
             MessageCreateRequest createRequest = new MessageCreateRequest();
             createRequest.setReceiverId(request.getReceiverId());
             createRequest.setContent(request.getContent());
 
-            // 메시지 저장 (DB에 영구 저장)
-            MessageDto savedMessage = messageService.sendMessage(sender.getId(), createRequest);
-
-            // Redis Pub/Sub로 메시지 브로드캐스트
-            String messageJson = objectMapper.writeValueAsString(savedMessage);
-            redisTemplate.convertAndSend(CHAT_CHANNEL, messageJson);
+            // 메시지 저장 (커밋 후 ChatEventRelay가 수신자/발신자 채널에 발행)
+            MessageDto savedMessage = messageService.sendMessage(sender, createRequest);
 
-            log.info("Redis로 메시지 발행 완료: messageId={}", savedMessage.getId());
+            log.debug("메시지 저장 완료: messageId={}", savedMessage.getId());
 
         } catch (Exception e) {
             log.error("메시지 전송 실패: {}", e.getMessage(), e);
@@ -77,7 +80,7 @@ public class ChatWebSocketController {
     }
 
     /**
-     * 타이핑 상태 전송 (선택 기능)
+     * 타이핑 상태 전송 (대화 상대에게만, 저장하지 않음)
      * 클라이언트에서 /app/chat.typing 으로 보내면 처리
      */
     @MessageMapping("/chat.typing")
@@ -87,18 +90,50 @@ public class ChatWebSocketController {
                 return;
 
             Member sender = extractMember(principal);
-            if (sender == null)
+            if (sender == null || request.getReceiverId() == null)
                 return;
 
-            // 상대방에게 타이핑 상태 알림
-            // 이 부분은 Redis 없이 직접 WebSocket으로 전송할 수도 있음
-            log.debug("타이핑 상태: senderId={}, receiverId={}", sender.getId(), request.getReceiverId());
+            // 상대방에게 타이핑 상태 알림 (대화방별로 일정 간격에 한 번만, DB 조회 없음)
+            presenceService.sendTyping(sender.getId(), request.getReceiverId());
 
         } catch (Exception e) {
             log.error("타이핑 상태 전송 실패: {}", e.getMessage());
         }
     }
 
+    /**
+     * 접속 상태 조회
+     * 클라이언트가 /app/chat.presence.{userId} 를 구독하면 현재 상태를 한 번 응답
+     * (이후 변경은 /topic/presence.{userId} 로 전달)
+     */
+    @SubscribeMapping("/chat.presence.{userId}")
+    public ChatEvent presence(@DestinationVariable Long userId) {
+        PresenceDto presence = new PresenceDto(userId, presenceService.isOnline(userId));
+        return new ChatEvent(ChatEvent.Type.PRESENCE, ChatEvent.CURRENT_VERSION, null, chatEventCodec.encodePayload(presence));
+    }
+
+    /**
+     * 재연결 시 놓친 채팅 이벤트 재전송
+     * 클라이언트가 /app/chat.replay 를 구독하면 CONNECT 시 보낸 last-event-id 이후의 이벤트를
+     * 해당 세션에만 한 번 응답 (마지막 이벤트 ID가 없으면 빈 목록)
+     */
+    @SubscribeMapping("/chat.replay")
+    public List<ChatEvent> replay(Principal principal, SimpMessageHeaderAccessor headerAccessor) {
+        Member member = extractMember(principal);
+        String lastEventId = chatSessionRegistry.takeLastEventId(headerAccessor.getSessionId());
+        if (member == null || lastEventId == null) {
+            return List.of();
+        }
+        try {
+            List<ChatEvent> events = chatEventPublisher.replaySince(member.getId(), lastEventId);
+            log.debug("채팅 이벤트 재전송: userId={}, {} 건", member.getId(), events.size());
+            return events;
+        } catch (Exception e) {
+            log.warn("채팅 이벤트 재전송 실패: userId={}, {}", member.getId(), e.getMessage());
+            return List.of();
+        }
+    }
+
     private Member extractMember(Principal principal) {
         if (principal instanceof UsernamePasswordAuthenticationToken) {
             Object principalObj = ((UsernamePasswordAuthenticationToken) principal).getPrincipal();
@@ -101,6 +101,24 @@ public class Member {
         this.suspensionReason = null;
     }
 
+    // 인증 캐시 스냅샷으로 인증 객체 생성 (영속 상태가 아니며 비밀번호는 비어 있음, 변경이 필요하면 다시 조회)
+    public static Member fromPrincipal(MemberPrincipal principal) {
+        Member member = new Member();
+        member.id = principal.id();
+        member.username = principal.username();
+        member.email = principal.email();
+        member.nickname = principal.nickname();
+        member.provider = principal.provider();
+        member.emailVerified = principal.emailVerified();
+        member.profileImage = principal.profileImage();
+        member.role = principal.role();
+        member.isSuspended = principal.suspended();
+        member.suspendedUntil = principal.suspendedUntil();
+        member.suspensionReason = principal.suspensionReason();
+        member.createdAt = principal.createdAt();
+        return member;
+    }
+
     // 현재 정지 상태 확인 (만료된 정지는 자동으로 해제되지 않음)
     public boolean isCurrentlySuspended() {
         if (!this.isSuspended) {
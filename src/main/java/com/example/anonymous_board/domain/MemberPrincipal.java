@@ -0,0 +1,51 @@
+package com.example.anonymous_board.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증 사용자 정보 (인증 캐시에 보관하는 읽기 전용 스냅샷)
+ * 비밀번호 해시는 포함하지 않음
+ */
+public record MemberPrincipal(
+        Long id,
+        String username,
+        String email,
+        String nickname,
+        String provider,
+        boolean emailVerified,
+        String profileImage,
+        Role role,
+        boolean suspended,
+        LocalDateTime suspendedUntil,
+        String suspensionReason,
+        LocalDateTime createdAt) {
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(
+                member.getId(),
+                member.getUsername(),
+                member.getEmail(),
+                member.getNickname(),
+                member.getProvider(),
+                member.isEmailVerified(),
+                member.getProfileImage(),
+                member.getRole(),
+                member.isSuspended(),
+                member.getSuspendedUntil(),
+                member.getSuspensionReason(),
+                member.getCreatedAt());
+    }
+
+    // 현재 정지 상태 확인 (Member.isCurrentlySuspended()와 같은 기준)
+    public boolean isCurrentlySuspended() {
+        if (!suspended) {
+            return false;
+        }
+        return suspendedUntil == null || LocalDateTime.now().isBefore(suspendedUntil);
+    }
+
+    // 컨트롤러에 전달할 인증 객체 (요청마다 새 인스턴스, 비밀번호 없음)
+    public Member toMember() {
+        return Member.fromPrincipal(this);
+    }
+}
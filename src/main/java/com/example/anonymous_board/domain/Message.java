@@ -14,10 +14,17 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // 대화 내역 커서 조회용 (보낸 사람 -> 받는 사람 방향별 최신순)
+        @Index(name = "idx_message_pair_created", columnList = "sender_id, receiver_id, created_at, id")
+})
 public class Message {
 
+    // 저장 전에 ID를 먼저 발급받아 바로 발행하므로 시퀀스 사용 (ChatMessageWriter)
+    // 기존 IDENTITY 컬럼의 시퀀스(message_id_seq)를 그대로 사용하며, 읽음 위치 비교를 위해 ID 순서가 보낸 순서와 같도록 하나씩 발급
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_id_seq")
+    @SequenceGenerator(name = "message_id_seq", sequenceName = "message_id_seq", allocationSize = 1)
     private Long id; // 메시지 ID
 
     @ManyToOne(fetch = FetchType.LAZY)
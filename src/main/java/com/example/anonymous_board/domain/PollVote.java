@@ -10,6 +10,11 @@ import lombok.Setter;
  * 사용자가 어떤 투표의 어떤 선택지에 투표했는지 기록
  */
 @Entity
+@Table(uniqueConstraints = {
+        // 한 사용자는 투표 하나에 한 번만 참여 (선택지 변경은 UPDATE)
+        // 기존 DB는 V4__poll_vote_unique 마이그레이션에서 중복 정리 후 생성
+        @UniqueConstraint(name = "uk_poll_vote_poll_user", columnNames = { "poll_id", "user_id" })
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +22,8 @@ public class PollVote {
 
     // 투표 기록 ID
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "poll_vote_seq")
+    @SequenceGenerator(name = "poll_vote_seq", sequenceName = "poll_vote_seq", allocationSize = 50)
     private Long id;
 
     // 어떤 투표에 참여했는지
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,6 +16,11 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = {
+        // 커서 기반 피드 조회용 (공지 제외 최신순)
+        @Index(name = "idx_post_feed", columnList = "is_announcement, created_at, id"),
+        @Index(name = "idx_post_board_feed", columnList = "board_type, is_announcement, created_at, id")
+})
 public class Post {
 
     @Id
@@ -36,17 +42,12 @@ public class Post {
     @OneToOne(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private Poll poll;
 
-    @Column(nullable = false, columnDefinition = "int default 0")
-    private int viewCount = 0; // 게시글 조회수
-
-    @Column(nullable = false, columnDefinition = "int default 0")
-    private int likes = 0; // 추천수
-
-    @Column(nullable = false, columnDefinition = "int default 0")
-    private int dislikes = 0; // 비추천수
-
-    @Column(nullable = false, columnDefinition = "int default 0")
-    private int commentCount = 0; // 댓글 수
+    // 조회수/추천수/댓글 수는 별도 테이블(post_stats)에서 관리 (카운터 증감이 post 행을 다시 쓰지 않도록)
+    // 같은 키(id)로 참조하는 소유 측 1:1이라 필요할 때만 지연 로딩 (저장/삭제는 PostService가 게시글과 같은 트랜잭션에서 처리)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private PostStats stats = new PostStats(this);
 
     @Column(nullable = false, columnDefinition = "boolean default false")
     private boolean isAnnouncement = false; // 공지사항 여부 (관리자 전용)
@@ -83,34 +84,38 @@ public class Post {
     @UpdateTimestamp
     private LocalDateTime updatedAt; // 게시글이 수정될 때마다 자동으로 갱신되는 시간
 
-    // 조회수 증가 시
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementLikes() {
-        this.likes++;
-    }
-
-    public void decrementLikes() {
-        this.likes--;
+    public int getViewCount() {
+        PostStats current = loadStats();
+        return current != null ? current.getViewCount() : 0;
     }
 
-    public void incrementDislikes() {
-        this.dislikes++;
+    public int getLikes() {
+        PostStats current = loadStats();
+        return current != null ? current.getLikes() : 0;
     }
 
-    public void decrementDislikes() {
-        this.dislikes--;
+    public int getDislikes() {
+        PostStats current = loadStats();
+        return current != null ? current.getDislikes() : 0;
     }
 
-    public void incrementCommentCount() {
-        this.commentCount++;
+    public int getCommentCount() {
+        PostStats current = loadStats();
+        return current != null ? current.getCommentCount() : 0;
     }
 
-    public void decrementCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
+    // 통계 행이 없는 게시글(마이그레이션 전 데이터 등)은 null (카운터는 0으로 표시)
+    // 지연 로딩 프록시는 처음 읽을 때 조회하며, 행이 없으면 다시 조회하지 않도록 비워 둠 (읽기 전용 컬럼이라 UPDATE 없음)
+    private PostStats loadStats() {
+        if (stats == null) {
+            return null;
+        }
+        try {
+            Hibernate.initialize(stats);
+            return stats;
+        } catch (EntityNotFoundException e) {
+            stats = null;
+            return null;
         }
     }
 
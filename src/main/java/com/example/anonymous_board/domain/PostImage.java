@@ -17,7 +17,8 @@ public class PostImage {
 
     // 이미지 ID
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_image_seq")
+    @SequenceGenerator(name = "post_image_seq", sequenceName = "post_image_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,53 @@
+package com.example.anonymous_board.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게시글 통계 (조회수, 추천/비추천 수, 댓글 수)
+ * 자주 바뀌는 카운터를 제목/내용이 있는 post 행과 분리하여, 증감 시 작은 행만 갱신
+ * 증감은 PostStatsRepository의 UPDATE(+/-)로만 처리하고 엔티티 값을 직접 바꾸지 않음
+ * 게시글을 저장/삭제하는 트랜잭션에서 함께 저장/삭제 (PostService)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "post_stats", indexes = {
+        // 추천/비추천/조회수/댓글 수 정렬용
+        @Index(name = "idx_post_stats_likes", columnList = "likes"),
+        @Index(name = "idx_post_stats_dislikes", columnList = "dislikes"),
+        @Index(name = "idx_post_stats_view_count", columnList = "view_count"),
+        @Index(name = "idx_post_stats_comment_count", columnList = "comment_count")
+})
+public class PostStats {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId; // 게시글 ID (게시글과 같은 키)
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    @JsonIgnore // 순환 참조 방지
+    private Post post;
+
+    @Column(nullable = false)
+    private int viewCount = 0; // 조회수
+
+    @Column(nullable = false)
+    private int likes = 0; // 추천수
+
+    @Column(nullable = false)
+    private int dislikes = 0; // 비추천수
+
+    @Column(nullable = false)
+    private int commentCount = 0; // 댓글 수
+
+    public PostStats(Post post) {
+        this.post = post;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /*
  * 사용자 대화 엔티티
  */
@@ -14,6 +16,13 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = {
+        // 사용자별 상대방당 대화방 하나 (기존 DB는 V3__user_conversation_unique 마이그레이션에서 중복 정리 후 생성)
+        @UniqueConstraint(name = "uk_user_conversation_pair", columnNames = { "user_id", "other_user_id" })
+}, indexes = {
+        // 내 채팅 목록 조회용 (숨기지 않은 대화방, 최근 메시지 순)
+        @Index(name = "idx_user_conversation_inbox", columnList = "user_id, hidden, last_message_at")
+})
 public class UserConversation {
 
     @Id
@@ -30,6 +39,18 @@ public class UserConversation {
 
     private boolean hidden = false; // 숨김 여부
 
+    private Long lastReadMessageId; // 사용자가 읽은 마지막 메시지 ID (상대방이 보낸 메시지 중, 이 ID 이하는 모두 읽음)
+
+    private Long lastMessageId; // 마지막 메시지 ID
+
+    @Column(length = 100)
+    private String lastMessagePreview; // 마지막 메시지 미리보기 (최대 100자)
+
+    private LocalDateTime lastMessageAt; // 마지막 메시지 시간
+
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private int unreadCount; // 읽지 않은 메시지 수
+
     public void hide() {
         this.hidden = true;
     }
@@ -37,4 +58,9 @@ public class UserConversation {
     public void unhide() {
         this.hidden = false;
     }
+
+    // 읽은 메시지 이하의 모든 메시지를 읽은 것으로 간주하는지 확인
+    public boolean hasRead(Long messageId) {
+        return lastReadMessageId != null && messageId != null && messageId <= lastReadMessageId;
+    }
 }
@@ -18,7 +18,8 @@ import lombok.Setter;
 public class Vote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_seq")
+    @SequenceGenerator(name = "vote_seq", sequenceName = "vote_seq", allocationSize = 50)
     private Long id; // 투표 ID
 
     @ManyToOne(fetch = FetchType.LAZY)
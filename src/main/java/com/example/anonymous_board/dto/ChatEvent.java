@@ -0,0 +1,37 @@
+package com.example.anonymous_board.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅 이벤트 봉투 (Redis 채널/Stream 및 WebSocket 전달 형식)
+ * payload는 이미 직렬화된 JSON을 그대로 포함하여 한 번만 직렬화되도록 함
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatEvent {
+
+    // 형식이 바뀌면 증가 (구독자/클라이언트가 모르는 버전은 무시)
+    public static final int CURRENT_VERSION = 1;
+
+    private final Type type; // 이벤트 종류
+    private final int version; // 봉투 형식 버전
+    private final String eventId; // Stream 항목 ID (재연결 시 이어받기용, Stream에 저장하지 않는 이벤트는 null)
+    @JsonRawValue
+    private final String payload; // MessageDto / ReadStatusDto JSON
+
+    public enum Type {
+        MESSAGE, // 채팅 메시지 (MessageDto)
+        READ_STATUS, // 읽음 위치 이동 (ReadStatusDto)
+        TYPING, // 입력 중 (TypingDto, 저장/재전송 없음)
+        PRESENCE, // 접속 상태 변경 (PresenceDto, 저장/재전송 없음)
+        RESYNC // 놓친 이벤트를 이어받을 수 없음 - 전체 다시 불러오기 (payload 없음)
+    }
+
+    public static ChatEvent resync() {
+        return new ChatEvent(Type.RESYNC, CURRENT_VERSION, null, null);
+    }
+}
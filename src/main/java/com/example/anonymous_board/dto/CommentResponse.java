@@ -4,9 +4,11 @@ import com.example.anonymous_board.domain.Comment;
 import com.example.anonymous_board.domain.Member;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
-import java.util.Map;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Getter
 public class CommentResponse {
@@ -16,10 +18,10 @@ public class CommentResponse {
     private final boolean secret; // 비밀 댓글 여부
     @JsonProperty("isOwner") // 직렬화: 프론트 엔드와 코드 통일 Owner -> isOwner
     private final boolean isOwner; // 댓글 작성자 여부
-    private final List<CommentResponse> children; // 자식 댓글 리스트
+    private final List<CommentResponse> children = new ArrayList<>(); // 자식 댓글 리스트 (buildTree에서 채움)
     private final String profileImage; // 댓글 작성자 프로필 이미지
 
-    public CommentResponse(Comment comment, Member currentUser, Map<Long, Integer> anonymousMap) {
+    public CommentResponse(Comment comment, Member currentUser, Long postAuthorId, Map<Long, Integer> anonymousMap) {
         this.id = comment.getId(); // 댓글 ID
         this.secret = comment.isSecret(); // 비밀 댓글 여부
 
@@ -28,7 +30,7 @@ public class CommentResponse {
         if (currentUser != null) {
             this.isOwner = comment.getMember().getId().equals(currentUser.getId());
             // 현재 사용자가 게시글 작성자이거나 댓글 작성자인 경우
-            if (comment.getPost().getMember().getId().equals(currentUser.getId()) || isOwner) {
+            if (currentUser.getId().equals(postAuthorId) || isOwner) {
                 canView = true;
             }
         } else {
@@ -55,10 +57,37 @@ public class CommentResponse {
                 this.profileImage = image;
             }
         }
+    }
 
-        // 자식 댓글 리스트
-        this.children = comment.getChildren().stream()
-                .map(child -> new CommentResponse(child, currentUser, anonymousMap))
-                .collect(Collectors.toList());
+    /**
+     * 게시글의 전체 댓글(대댓글 포함, 작성일 순)을 계층형 구조로 변환
+     * 익명 ID 부여와 부모-자식 연결을 메모리에서 처리하므로 추가 쿼리가 발생하지 않음
+     * (comments는 member가 함께 조회된 상태여야 함)
+     *
+     * @return 최상위 댓글 목록 (자식 댓글은 children에 포함)
+     */
+    public static List<CommentResponse> buildTree(List<Comment> comments, Member currentUser, Long postAuthorId) {
+        // 익명 ID 부여 (작성일 순으로 처음 등장한 작성자부터 1번)
+        Map<Long, Integer> anonymousMap = new HashMap<>();
+        Map<Long, CommentResponse> responses = new HashMap<>();
+        for (Comment comment : comments) {
+            anonymousMap.putIfAbsent(comment.getMember().getId(), anonymousMap.size() + 1);
+            responses.put(comment.getId(), new CommentResponse(comment, currentUser, postAuthorId, anonymousMap));
+        }
+
+        // 부모 댓글에 연결 (부모가 없는 댓글만 최상위로 반환)
+        List<CommentResponse> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            CommentResponse response = responses.get(comment.getId());
+            if (comment.getParent() == null) {
+                roots.add(response);
+            } else {
+                CommentResponse parent = responses.get(comment.getParent().getId());
+                if (parent != null) {
+                    parent.children.add(response);
+                }
+            }
+        }
+        return roots;
     }
 }
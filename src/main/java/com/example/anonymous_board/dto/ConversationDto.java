@@ -10,4 +10,6 @@ import java.util.List;
 public class ConversationDto {
     private List<MessageDto> messages;
     private boolean otherUserHasLeft; // 상대방이 대화를 나갔는지 여부
+    private boolean hasMore; // 이전 메시지가 더 있는지 여부
+    private String nextCursor; // 이전 메시지 조회용 커서 (before 파라미터로 전달)
 }
@@ -14,4 +14,5 @@ public class ConversationSummaryDto {
     private String lastMessageContent; // 마지막 메시지 내용
     private LocalDateTime lastMessageTime; // 마지막 메시지 시간
     private boolean hasUnreadMessages; // 읽지 않은 메시지 여부
+    private int unreadCount; // 읽지 않은 메시지 수
 }
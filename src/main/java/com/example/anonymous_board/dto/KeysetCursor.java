@@ -0,0 +1,38 @@
+package com.example.anonymous_board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반(keyset) 페이지네이션 커서
+ * (createdAt, id) 위치를 클라이언트에는 불투명한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+    private final LocalDateTime createdAt; // 마지막 항목의 생성 시간
+    private final Long id; // 마지막 항목의 ID (생성 시간이 같은 경우 구분용)
+
+    // "createdAt,id" 형식을 URL-safe Base64로 인코딩
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(',');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.anonymous_board.dto;
 
+import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Message;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,16 +17,26 @@ public class MessageDto {
     private Long receiverId; // 수신자 ID
     private String content; // 메시지 내용
     private LocalDateTime createdAt; // 생성 시간
-    private LocalDateTime readAt; // 읽음 시간
+    private LocalDateTime readAt; // 읽음 시간 (이전 방식으로 읽음 처리된 메시지)
+    private boolean read; // 읽음 여부 (수신자의 읽음 위치 기준)
 
     public static MessageDto from(Message message) {
+        MessageDto dto = of(message.getId(), message.getSender(), message.getReceiver().getId(),
+                message.getContent(), message.getCreatedAt());
+        dto.readAt = message.getReadAt(); // 읽음 시간 추가
+        dto.read = message.getReadAt() != null;
+        return dto;
+    }
+
+    // 저장 전 새 메시지 (ChatMessageWriter가 비동기로 저장)
+    public static MessageDto of(Long id, Member sender, Long receiverId, String content, LocalDateTime createdAt) {
         MessageDto dto = new MessageDto();
-        dto.id = message.getId();
-        dto.senderId = message.getSender().getId();
-        dto.senderNickname = message.getSender().getNickname();
+        dto.id = id;
+        dto.senderId = sender.getId();
+        dto.senderNickname = sender.getNickname();
 
         // 프로필 이미지 처리
-        String profileImage = message.getSender().getProfileImage();
+        String profileImage = sender.getProfileImage();
         if (profileImage != null && !profileImage.startsWith("/profiles/") && !profileImage.startsWith("http")) {
             profileImage = "/profiles/" + profileImage;
         } else if (profileImage == null) {
@@ -33,10 +44,9 @@ public class MessageDto {
         }
         dto.senderProfileImage = profileImage;
 
-        dto.receiverId = message.getReceiver().getId();
-        dto.content = message.getContent();
-        dto.createdAt = message.getCreatedAt();
-        dto.readAt = message.getReadAt(); // 읽음 시간 추가
+        dto.receiverId = receiverId;
+        dto.content = content;
+        dto.createdAt = createdAt;
         return dto;
     }
 }
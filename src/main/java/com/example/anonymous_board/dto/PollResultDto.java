@@ -0,0 +1,33 @@
+package com.example.anonymous_board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 투표 결과 실시간 알림 (/topic/poll.{postId})
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PollResultDto {
+    private Long postId; // 게시글 ID
+    private Long pollId; // 투표 ID
+    private long totalVotes; // 투표 총수
+    private List<OptionResult> options = new ArrayList<>(); // 선택지별 결과
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OptionResult {
+        private Long id; // 투표 옵션 ID
+        private int voteCount; // 투표 수
+        private double votePercentage; // 투표 비율
+    }
+}
@@ -1,15 +1,12 @@
 package com.example.anonymous_board.dto;
 
-import com.example.anonymous_board.domain.Comment;
 import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Post;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -41,13 +38,20 @@ public class PostResponse {
     }
 
     public PostResponse(Post post, Member currentUser) {
+        this(post, currentUser, 0,
+                CommentResponse.buildTree(post.getComments(), currentUser, post.getMember().getId()));
+    }
+
+    // pendingViewCount: 아직 DB에 반영되지 않은 조회수 증가분 (ViewCountService)
+    // comments: CommentService에서 한 번의 쿼리로 만든 계층형 댓글 목록
+    public PostResponse(Post post, Member currentUser, long pendingViewCount, List<CommentResponse> comments) {
         this.id = post.getId();
         this.authorId = post.getMember().getId();
         this.nickname = post.getNickname();
         this.title = post.getTitle();
         this.content = post.getContent();
         this.createdAt = post.getCreatedAt();
-        this.viewCount = post.getViewCount();
+        this.viewCount = post.getViewCount() + (int) pendingViewCount;
         this.likes = post.getLikes();
         this.dislikes = post.getDislikes();
         this.commentCount = post.getCommentCount();
@@ -62,22 +66,7 @@ public class PostResponse {
             this.profileImage = image;
         }
 
-        // 익명 ID 부여 로직
-        List<Comment> allComments = post.getComments();
-        allComments.sort((c1, c2) -> c1.getCreatedAt().compareTo(c2.getCreatedAt()));
-        Map<Long, Integer> anonymousMap = new HashMap<>();
-        int nextAnonymousId = 1;
-        for (Comment comment : allComments) {
-            Long memberId = comment.getMember().getId();
-            if (!anonymousMap.containsKey(memberId)) {
-                anonymousMap.put(memberId, nextAnonymousId++);
-            }
-        }
-
-        this.comments = post.getComments().stream()
-                .filter(comment -> comment.getParent() == null) // 최상위 댓글만 변환 (자식은 내부에서 처리)
-                .map(comment -> new CommentResponse(comment, currentUser, anonymousMap))
-                .collect(Collectors.toList());
+        this.comments = comments;
         this.images = post.getImages().stream()
                 .map(PostImageResponse::new)
                 .collect(Collectors.toList());
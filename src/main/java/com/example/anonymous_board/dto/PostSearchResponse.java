@@ -0,0 +1,30 @@
+package com.example.anonymous_board.dto;
+
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.domain.Post;
+import com.example.anonymous_board.service.PostSearchService;
+import lombok.Getter;
+
+/**
+ * 게시글 검색 결과 응답 DTO
+ * 목록 요약 정보에 검색어 하이라이트(HTML 이스케이프 + &lt;mark&gt;)를 추가
+ */
+@Getter
+public class PostSearchResponse extends PostSummaryResponse {
+    private final String highlightedTitle; // 검색어가 강조된 제목
+    private final String highlightedContent; // 검색어 주변 내용 스니펫
+
+    public PostSearchResponse(Post post, Member currentUser, long pendingViewCount, String keyword) {
+        super(post, currentUser, pendingViewCount);
+        this.highlightedTitle = PostSearchService.highlight(post.getTitle(), keyword);
+        this.highlightedContent = PostSearchService.highlight(post.getContent(), keyword);
+    }
+
+    // 공지사항 스냅샷(AnnouncementRegistry) 검색 결과 (content: 미리보기가 아닌 전체 내용)
+    public PostSearchResponse(PostSummaryResponse snapshot, String content, Member currentUser,
+            long pendingViewCount, String keyword) {
+        super(snapshot, currentUser, pendingViewCount);
+        this.highlightedTitle = PostSearchService.highlight(snapshot.getTitle(), keyword);
+        this.highlightedContent = PostSearchService.highlight(content, keyword);
+    }
+}
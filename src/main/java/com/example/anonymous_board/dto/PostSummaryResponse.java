@@ -0,0 +1,86 @@
+package com.example.anonymous_board.dto;
+
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.domain.Post;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 응답 DTO
+ * 댓글/이미지/투표를 포함하지 않아 작성자(member)만 함께 조회하면 추가 쿼리 없이 생성 가능
+ */
+@Getter
+public class PostSummaryResponse {
+    private final Long id; // 게시글 ID
+    private final Long authorId; // 게시글 작성자 ID
+    private final String nickname; // 게시글 작성자 닉네임
+    private final String title; // 게시글 제목
+    private final String content; // 게시글 내용 (미리보기, 최대 100자)
+    private final LocalDateTime createdAt; // 게시글 생성 시간
+    private final int viewCount; // 게시글 조회수
+    private final int likes; // 게시글 좋아요 수
+    private final int dislikes; // 게시글 싫어요 수
+    private final int commentCount; // 게시글 댓글 수
+    @JsonProperty("isOwner")
+    private final boolean isOwner; // 게시글 작성자 여부
+    private final String profileImage; // 게시글 작성자 프로필 이미지
+    @JsonProperty("isAnnouncement")
+    private final boolean isAnnouncement; // 공지사항 여부
+    @JsonProperty("authorIsAdmin")
+    private final boolean authorIsAdmin; // 작성자가 관리자인지 여부
+
+    @JsonProperty("isBlinded")
+    public boolean isBlinded() {
+        return this.dislikes >= 10;
+    }
+
+    // pendingViewCount: 아직 DB에 반영되지 않은 조회수 증가분 (ViewCountService)
+    public PostSummaryResponse(Post post, Member currentUser, long pendingViewCount) {
+        this.id = post.getId();
+        this.authorId = post.getMember().getId();
+        this.nickname = post.getNickname();
+        this.title = post.getTitle();
+        this.content = post.getContent().length() > 100
+                ? post.getContent().substring(0, 100) + "..."
+                : post.getContent();
+        this.createdAt = post.getCreatedAt();
+        this.viewCount = post.getViewCount() + (int) pendingViewCount;
+        this.likes = post.getLikes();
+        this.dislikes = post.getDislikes();
+        this.commentCount = post.getCommentCount();
+        this.isOwner = (currentUser != null && post.getMember().getId().equals(currentUser.getId()));
+        this.isAnnouncement = post.isAnnouncement();
+        this.authorIsAdmin = post.getMember().getRole().getKey().equals("ROLE_ADMIN");
+
+        String image = post.getMember().getProfileImage();
+        if (image != null && !image.startsWith("/profiles/") && !image.startsWith("http")) {
+            this.profileImage = "/profiles/" + image;
+        } else {
+            this.profileImage = image;
+        }
+    }
+
+    // 공지사항 스냅샷(AnnouncementRegistry)을 현재 사용자 기준으로 복사 (작성자 여부, 미반영 조회수만 다시 계산)
+    protected PostSummaryResponse(PostSummaryResponse snapshot, Member currentUser, long pendingViewCount) {
+        this.id = snapshot.id;
+        this.authorId = snapshot.authorId;
+        this.nickname = snapshot.nickname;
+        this.title = snapshot.title;
+        this.content = snapshot.content;
+        this.createdAt = snapshot.createdAt;
+        this.viewCount = snapshot.viewCount + (int) pendingViewCount;
+        this.likes = snapshot.likes;
+        this.dislikes = snapshot.dislikes;
+        this.commentCount = snapshot.commentCount;
+        this.isOwner = (currentUser != null && snapshot.authorId.equals(currentUser.getId()));
+        this.isAnnouncement = snapshot.isAnnouncement;
+        this.authorIsAdmin = snapshot.authorIsAdmin;
+        this.profileImage = snapshot.profileImage;
+    }
+
+    public PostSummaryResponse forViewer(Member currentUser, long pendingViewCount) {
+        return new PostSummaryResponse(this, currentUser, pendingViewCount);
+    }
+}
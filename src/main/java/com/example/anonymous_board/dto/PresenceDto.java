@@ -0,0 +1,15 @@
+package com.example.anonymous_board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceDto {
+    private Long userId; // 사용자 ID
+    private boolean online; // 접속 여부
+}
@@ -5,8 +5,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.List;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,5 +12,5 @@ import java.util.List;
 public class ReadStatusDto {
     private Long senderId; // 발신자 ID (읽음 알림을 받을 사람)
     private Long receiverId; // 수신자 ID (메시지를 읽은 사람)
-    private List<Long> messageIds; // 읽은 메시지 ID 목록
+    private Long lastReadMessageId; // 읽은 마지막 메시지 ID (이 ID 이하의 메시지는 모두 읽음)
 }
@@ -0,0 +1,15 @@
+package com.example.anonymous_board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingDto {
+    private Long senderId; // 입력 중인 사용자 ID
+    private Long receiverId; // 알림을 받을 대화 상대 ID
+}
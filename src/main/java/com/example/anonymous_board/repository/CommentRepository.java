@@ -19,6 +19,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     int countByMember(Member member); // 회원의 댓글 수 조회
 
+    // 게시글의 전체 댓글 조회 (대댓글 포함, 작성자 함께 조회, 작성일 순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllByPostIdWithMember(@Param("postId") Long postId);
+
     // 회원의 닉네임 변경
     @Modifying
     @Query("UPDATE Comment c SET c.nickname = :nickname WHERE c.member = :member")
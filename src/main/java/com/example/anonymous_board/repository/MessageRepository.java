@@ -2,19 +2,32 @@ package com.example.anonymous_board.repository;
 
 import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Message;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    @Query("SELECT m FROM Message m WHERE (m.sender = :user1 AND m.receiver = :user2) OR (m.sender = :user2 AND m.receiver = :user1) ORDER BY m.createdAt ASC")
-    List<Message> findConversation(@Param("user1") Member user1, @Param("user2") Member user2); // 대화 찾기
+    // 한 방향(보낸 사람 -> 받는 사람)의 최신 메시지 (인덱스: sender_id, receiver_id, created_at, id)
+    @EntityGraph(attributePaths = { "sender", "receiver" })
+    @Query("SELECT m FROM Message m WHERE m.sender.id = :senderId AND m.receiver.id = :receiverId"
+            + " ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findLatestBetween(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+            Pageable pageable);
 
-    List<Message> findBySenderOrReceiverOrderByCreatedAtDesc(Member sender, Member receiver); // 보내거나 받은 메시지 찾기
+    // 한 방향의 커서 이전 메시지
+    @EntityGraph(attributePaths = { "sender", "receiver" })
+    @Query("SELECT m FROM Message m WHERE m.sender.id = :senderId AND m.receiver.id = :receiverId"
+            + " AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id))"
+            + " ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findBetweenBefore(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     @Modifying
     @Query("DELETE FROM Message m WHERE m.sender = :sender")
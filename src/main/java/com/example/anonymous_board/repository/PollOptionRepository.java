@@ -2,7 +2,20 @@ package com.example.anonymous_board.repository;
 
 import com.example.anonymous_board.domain.PollOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface PollOptionRepository extends JpaRepository<PollOption, Long> {
 
+    // 선택지가 속한 투표 ID
+    @Query("SELECT o.poll.id FROM PollOption o WHERE o.id = :optionId")
+    Optional<Long> findPollIdById(@Param("optionId") Long optionId);
+
+    // 선택지 투표 수 증감 (조회 후 수정하지 않고 DB에서 원자적으로 반영)
+    @Modifying
+    @Query("UPDATE PollOption o SET o.voteCount = o.voteCount + :delta WHERE o.id = :optionId")
+    int addVoteCount(@Param("optionId") Long optionId, @Param("delta") int delta);
 }
@@ -15,6 +15,17 @@ public interface PollVoteRepository extends JpaRepository<PollVote, Long> {
     // 투표 찾기
     Optional<PollVote> findByPollAndMember(Poll poll, Member member);
 
+    // 사용자가 선택한 항목 ID
+    @Query("SELECT pv.option.id FROM PollVote pv WHERE pv.poll.id = :pollId AND pv.member.id = :memberId")
+    Optional<Long> findOptionId(@Param("pollId") Long pollId, @Param("memberId") Long memberId);
+
+    // 선택 항목 변경 (기존 항목이 그대로인 경우에만, 반영된 행 수로 변경 여부 확인)
+    @Modifying
+    @Query(value = "UPDATE poll_vote SET option_id = :newOptionId"
+            + " WHERE poll_id = :pollId AND user_id = :memberId AND option_id = :oldOptionId", nativeQuery = true)
+    int changeOption(@Param("pollId") Long pollId, @Param("memberId") Long memberId,
+            @Param("oldOptionId") Long oldOptionId, @Param("newOptionId") Long newOptionId);
+
     // 투표 삭제
     @Modifying
     @Query("DELETE FROM PollVote pv WHERE pv.member = :member")
@@ -6,21 +6,32 @@ import com.example.anonymous_board.domain.Post;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+    @EntityGraph(attributePaths = { "stats" })
     List<Post> findByMemberOrderByCreatedAtDesc(Member member); // 회원의 게시글 조회
 
     // 회원의 게시글 조회 (페이지네이션)
+    @EntityGraph(attributePaths = { "stats" })
     Page<Post> findByMember(Member member, Pageable pageable);
 
     int countByMember(Member member); // 회원의 게시글 개수
 
+    // 관리자 게시글 목록 (작성자/통계 함께 조회)
+    @EntityGraph(attributePaths = { "member", "stats" })
+    @Query(value = "SELECT p FROM Post p", countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<Post> findAllWithMemberAndStats(Pageable pageable);
+
     // 회원의 닉네임 업데이트
     @Modifying
     @Query("UPDATE Post p SET p.nickname = :nickname WHERE p.member = :member")
@@ -30,25 +41,29 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 검색 기능 (제목 또는 내용에 키워드 포함)
     Page<Post> findByTitleContainingOrContentContaining(String titleKeyword, String contentKeyword, Pageable pageable);
 
-    // 핫 게시글 조회 (네트 스코어 기준: 추천수 - 비추천수, 네트 스코어 순 정렬)
-    @Query("SELECT p FROM Post p WHERE (p.likes - p.dislikes) >= :minCount ORDER BY (p.likes - p.dislikes) DESC")
-    Page<Post> findHotPosts(@Param("minCount") int minCount, Pageable pageable);
+    // 목록 조회 쿼리는 작성자(member)와 투표(poll)/통계(stats)를 함께 조회하여 N+1 방지
+
+    // 핫 게시글 조회 (ID 목록)
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
+    @Query("SELECT p FROM Post p WHERE p.id IN :ids")
+    List<Post> findAllWithMemberByIdIn(@Param("ids") Collection<Long> ids);
 
-    // 공지사항 조회 (최신순)
+    // 공지사항 조회 (최신순, AnnouncementRegistry가 메모리에 보관)
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
     @Query("SELECT p FROM Post p WHERE p.isAnnouncement = true ORDER BY p.createdAt DESC")
     List<Post> findAnnouncements();
 
     // 일반 게시글 조회 (페이징 + 정렬)
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
     @Query("SELECT p FROM Post p WHERE p.isAnnouncement = false")
     Page<Post> findNonAnnouncementPosts(Pageable pageable);
 
-    // 검색 시 공지사항 조회
-    @Query("SELECT p FROM Post p WHERE p.isAnnouncement = true AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) ORDER BY p.createdAt DESC")
-    List<Post> findAnnouncementsByKeyword(@Param("keyword") String keyword);
+    // 일반 게시글 검색은 PostSearchService (pg_trgm 인덱스) 사용
 
-    // 검색 시 일반 게시글 조회
-    @Query("SELECT p FROM Post p WHERE p.isAnnouncement = false AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
-    Page<Post> findNonAnnouncementsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    // 회원 탈퇴 시 게시글 통계 삭제 (게시글 삭제 전에 실행)
+    @Modifying
+    @Query(value = "DELETE FROM post_stats WHERE post_id IN (SELECT id FROM post WHERE user_id = :userId)", nativeQuery = true)
+    void deleteStatsByMemberId(@Param("userId") Long userId);
 
     // 회원 탈퇴 시 게시글 삭제
     @Modifying
@@ -58,9 +73,32 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.boardType = :boardType ORDER BY p.createdAt DESC")
     Page<Post> findByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
     @Query("SELECT p FROM Post p WHERE p.boardType = :boardType AND p.isAnnouncement = false ORDER BY p.createdAt DESC")
     Page<Post> findNonAnnouncementPostsByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE p.isAnnouncement = true AND p.boardType = :boardType")
-    List<Post> findAnnouncementsByBoardType(@Param("boardType") BoardType boardType);
+    // 커서 기반 피드 조회 (최신순, count 쿼리 없음)
+    // 인덱스: (is_announcement, created_at, id), (board_type, is_announcement, created_at, id)
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
+    @Query("SELECT p FROM Post p WHERE p.isAnnouncement = false ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeed(Pageable pageable);
+
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
+    @Query("SELECT p FROM Post p WHERE p.isAnnouncement = false"
+            + " AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))"
+            + " ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
+    @Query("SELECT p FROM Post p WHERE p.boardType = :boardType AND p.isAnnouncement = false"
+            + " ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "member", "poll", "stats" })
+    @Query("SELECT p FROM Post p WHERE p.boardType = :boardType AND p.isAnnouncement = false"
+            + " AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))"
+            + " ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedByBoardTypeAfter(@Param("boardType") BoardType boardType,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
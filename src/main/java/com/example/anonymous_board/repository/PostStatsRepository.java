@@ -0,0 +1,30 @@
+package com.example.anonymous_board.repository;
+
+import com.example.anonymous_board.domain.PostStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+
+    // 추천/비추천 수 원자적 증감 (읽고 수정하지 않으므로 동시 투표에도 유실 없음)
+    @Modifying
+    @Query("UPDATE PostStats s SET s.likes = s.likes + :likeDelta, s.dislikes = s.dislikes + :dislikeDelta"
+            + " WHERE s.postId = :postId")
+    int applyVoteDelta(@Param("postId") Long postId, @Param("likeDelta") int likeDelta,
+            @Param("dislikeDelta") int dislikeDelta);
+
+    // 댓글 수 원자적 증감 (0 아래로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE PostStats s SET s.commentCount = s.commentCount + :delta"
+            + " WHERE s.postId = :postId AND s.commentCount + :delta >= 0")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 핫 게시글 랭킹 구축용 (게시글 ID, 네트 스코어, 작성 시각)
+    @Query("SELECT s.postId, (s.likes - s.dislikes), s.post.createdAt FROM PostStats s"
+            + " WHERE s.likes <> 0 OR s.dislikes <> 0")
+    List<Object[]> findVotedPostScores();
+}
@@ -2,6 +2,9 @@ package com.example.anonymous_board.repository;
 
 import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.UserConversation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +15,25 @@ import java.util.Optional;
 public interface UserConversationRepository extends JpaRepository<UserConversation, Long> {
     Optional<UserConversation> findByUserAndOtherUser(Member user, Member otherUser); // 사용자와 다른 사용자의 대화방 조회
 
+    // 읽음 위치(watermark)를 앞으로만 이동하고 그 이후 받은 메시지 수로 읽지 않은 메시지 수 갱신
+    // (조건부 UPDATE 한 번, 이미 같은 위치이거나 더 앞서 있으면 0 반환)
+    @Modifying
+    @Query(value = "UPDATE user_conversation SET last_read_message_id = :messageId,"
+            + " unread_count = (SELECT COUNT(*) FROM message m WHERE m.sender_id = :otherUserId"
+            + " AND m.receiver_id = :userId AND m.id > :messageId)"
+            + " WHERE user_id = :userId AND other_user_id = :otherUserId"
+            + " AND (last_read_message_id IS NULL OR last_read_message_id < :messageId)", nativeQuery = true)
+    int advanceLastReadMessageId(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId,
+            @Param("messageId") Long messageId);
+
+    // 내 채팅 목록 (숨기지 않은 대화방, 최근 메시지 순)
+    @EntityGraph(attributePaths = { "otherUser" })
+    @Query(value = "SELECT uc FROM UserConversation uc WHERE uc.user.id = :userId AND uc.hidden = false"
+            + " AND uc.lastMessageId IS NOT NULL ORDER BY uc.lastMessageAt DESC",
+            countQuery = "SELECT COUNT(uc) FROM UserConversation uc WHERE uc.user.id = :userId"
+                    + " AND uc.hidden = false AND uc.lastMessageId IS NOT NULL")
+    Page<UserConversation> findInbox(@Param("userId") Long userId, Pageable pageable);
+
     @Modifying
     @Query("DELETE FROM UserConversation uc WHERE uc.user = :user")
     void deleteByUser(@Param("user") Member user); // 사용자 탈퇴 시 사용자의 대화방 삭제
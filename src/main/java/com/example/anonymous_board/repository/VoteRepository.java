@@ -3,6 +3,7 @@ package com.example.anonymous_board.repository;
 import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Post;
 import com.example.anonymous_board.domain.Vote;
+import com.example.anonymous_board.domain.VoteType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +14,19 @@ import java.util.Optional;
 public interface VoteRepository extends JpaRepository<Vote, Long> {
     Optional<Vote> findByMemberAndPost(Member member, Post post); // 회원과 게시글로 투표 조회
 
+    // 같은 타입의 투표 취소 (반영된 행 수로 취소 여부 확인)
+    @Modifying
+    @Query("DELETE FROM Vote v WHERE v.member.id = :memberId AND v.post.id = :postId AND v.voteType = :voteType")
+    int deleteByMemberIdAndPostIdAndVoteType(@Param("memberId") Long memberId, @Param("postId") Long postId,
+            @Param("voteType") VoteType voteType);
+
+    // 다른 타입의 투표 변경 (반영된 행 수로 변경 여부 확인)
+    @Modifying
+    @Query("UPDATE Vote v SET v.voteType = :voteType"
+            + " WHERE v.member.id = :memberId AND v.post.id = :postId AND v.voteType <> :voteType")
+    int changeVoteType(@Param("memberId") Long memberId, @Param("postId") Long postId,
+            @Param("voteType") VoteType voteType);
+
     @Modifying
     @Query("DELETE FROM Vote v WHERE v.member = :member") // 회원 탈퇴 시 투표 삭제
     void deleteByMember(@Param("member") Member member);
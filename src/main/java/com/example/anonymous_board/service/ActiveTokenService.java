@@ -17,6 +17,7 @@ import java.time.Duration;
 public class ActiveTokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final JwtBlacklistService jwtBlacklistService;
     private static final String ACTIVE_TOKEN_PREFIX = "active_token:";
     private static final Duration TOKEN_TTL = Duration.ofDays(1); // 24시간
 
@@ -36,8 +37,8 @@ public class ActiveTokenService {
 
         // 기존 토큰이 있었다면 블랙리스트에 추가 (기존 세션 무효화)
         if (oldToken != null && !oldToken.equals(token)) {
-            // JwtBlacklistService와 동일한 키 형식 사용
-            redisTemplate.opsForValue().set("jwt:blacklist:" + oldToken, "invalidated", TOKEN_TTL);
+            // 다른 서버의 로컬 블랙리스트에도 반영되도록 JwtBlacklistService를 통해 추가
+            jwtBlacklistService.blacklistToken(oldToken);
             log.info("ActiveTokenService: 기존 토큰 블랙리스트 추가 완료: username={} (중복 로그인 방지)", username);
             if (oldToken.length() > 20) {
                 log.info("ActiveTokenService: 무효화된 토큰: {}...", oldToken.substring(0, 20));
@@ -70,7 +70,7 @@ public class AdminService {
         // 모든 게시글 (작성자 정보 포함)
         public Page<AdminPostResponse> getAllPostsWithAuthors(int page, int size) {
                 Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-                Page<Post> posts = postRepository.findAll(pageable);
+                Page<Post> posts = postRepository.findAllWithMemberAndStats(pageable);
 
                 return posts.map(post -> {
                         AuthorInfoResponse authorInfo = null;
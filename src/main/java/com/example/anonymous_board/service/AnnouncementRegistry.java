@@ -0,0 +1,156 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.BoardType;
+import com.example.anonymous_board.domain.Post;
+import com.example.anonymous_board.dto.PostSummaryResponse;
+import com.example.anonymous_board.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 공지사항 목록 (서버 메모리 스냅샷)
+ * - 공지사항은 관리자가 작성/수정/삭제할 때만 바뀌므로 목록 응답 DTO를 메모리에 보관하고
+ *   게시글 목록/검색 요청마다 DB를 조회하지 않음
+ * - 공지사항이 바뀌면 커밋 후 다시 불러오고, Redis Pub/Sub으로 다른 서버에도 알림
+ * - 조회수/추천 수 등 통계와 작성자 정보 변경, 놓친 알림은 주기적으로 다시 불러와서 반영
+ */
+@Slf4j
+@Service
+public class AnnouncementRegistry implements MessageListener {
+
+    // 공지사항 변경 알림 채널 (메시지: 게시글 ID)
+    public static final String CHANGED_CHANNEL = "announcements-changed";
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    // 마지막으로 불러온 공지사항 (교체만 하고 수정하지 않음)
+    private volatile Snapshot snapshot;
+
+    /**
+     * 공지사항 변경 이벤트 (PostService)
+     */
+    public record AnnouncementsChanged(Long postId) {
+    }
+
+    /**
+     * 공지사항 스냅샷 (목록 응답 + 검색용 전체 내용)
+     */
+    public record Announcement(PostSummaryResponse summary, BoardType boardType, String content) {
+    }
+
+    private record Snapshot(List<Announcement> announcements, List<PostSummaryResponse> summaries,
+            Map<BoardType, List<PostSummaryResponse>> summariesByBoardType) {
+    }
+
+    private static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), Map.of());
+
+    public AnnouncementRegistry(PostRepository postRepository, StringRedisTemplate redisTemplate) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 공지사항 목록 (최신순, boardType이 null이면 전체)
+     * 현재 사용자 기준 값(작성자 여부, 미반영 조회수)은 PostSummaryResponse.forViewer로 채움
+     */
+    public List<PostSummaryResponse> getAnnouncements(@Nullable BoardType boardType) {
+        Snapshot current = current();
+        return boardType == null
+                ? current.summaries()
+                : current.summariesByBoardType().getOrDefault(boardType, List.of());
+    }
+
+    /**
+     * 제목 또는 내용에 검색어가 포함된 공지사항 (대소문자 구분 없음, 최신순)
+     */
+    public List<Announcement> search(String keyword) {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        List<Announcement> result = new ArrayList<>();
+        for (Announcement announcement : current().announcements()) {
+            if (announcement.summary().getTitle().toLowerCase(Locale.ROOT).contains(lowerKeyword)
+                    || announcement.content().toLowerCase(Locale.ROOT).contains(lowerKeyword)) {
+                result.add(announcement);
+            }
+        }
+        return result;
+    }
+
+    // 공지사항 작성/수정/삭제 커밋 후 (롤백되면 그대로 유지)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnnouncementsChanged(AnnouncementsChanged event) {
+        refresh();
+        try {
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, String.valueOf(event.postId()));
+        } catch (Exception e) {
+            // 다른 서버는 다음 주기적 갱신 때 반영
+            log.warn("공지사항 변경 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 변경한 공지사항 반영 (Redis Pub/Sub)
+     */
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        refresh();
+    }
+
+    /**
+     * 공지사항 다시 불러오기
+     * 동시에 여러 번 호출되어도 나중에 끝난 갱신이 최신 상태가 되도록 한 번에 하나씩 실행
+     */
+    @Scheduled(fixedDelayString = "${announcement.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        try {
+            snapshot = load();
+        } catch (Exception e) {
+            log.warn("공지사항 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 첫 갱신 전에 요청이 오면 바로 불러옴 (실패하면 빈 목록)
+            refresh();
+            current = snapshot;
+        }
+        return current != null ? current : EMPTY;
+    }
+
+    private Snapshot load() {
+        List<Announcement> announcements = new ArrayList<>();
+        List<PostSummaryResponse> summaries = new ArrayList<>();
+        Map<BoardType, List<PostSummaryResponse>> byBoardType = new EnumMap<>(BoardType.class);
+
+        for (Post post : postRepository.findAnnouncements()) {
+            PostSummaryResponse summary = new PostSummaryResponse(post, null, 0);
+            announcements.add(new Announcement(summary, post.getBoardType(), post.getContent()));
+            summaries.add(summary);
+            if (post.getBoardType() != null) {
+                byBoardType.computeIfAbsent(post.getBoardType(), type -> new ArrayList<>()).add(summary);
+            }
+        }
+
+        Map<BoardType, List<PostSummaryResponse>> immutableByBoardType = new EnumMap<>(BoardType.class);
+        byBoardType.forEach((type, list) -> immutableByBoardType.put(type, List.copyOf(list)));
+        return new Snapshot(List.copyOf(announcements), List.copyOf(summaries),
+                Collections.unmodifiableMap(immutableByBoardType));
+    }
+}
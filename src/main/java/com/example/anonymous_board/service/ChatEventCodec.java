@@ -0,0 +1,61 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.dto.ChatEvent;
+import com.example.anonymous_board.dto.MessageDto;
+import com.example.anonymous_board.dto.PresenceDto;
+import com.example.anonymous_board.dto.ReadStatusDto;
+import com.example.anonymous_board.dto.TypingDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 이벤트 직렬화 (발행/재전송 공용)
+ * 타입별 ObjectWriter를 미리 만들어 두고, payload는 한 번만 직렬화하여 봉투에 그대로 포함
+ */
+@Component
+public class ChatEventCodec {
+
+    private final ObjectWriter messageWriter;
+    private final ObjectWriter readStatusWriter;
+    private final ObjectWriter typingWriter;
+    private final ObjectWriter presenceWriter;
+    private final ObjectWriter eventWriter;
+
+    public ChatEventCodec(ObjectMapper objectMapper) {
+        this.messageWriter = objectMapper.writerFor(MessageDto.class);
+        this.readStatusWriter = objectMapper.writerFor(ReadStatusDto.class);
+        this.typingWriter = objectMapper.writerFor(TypingDto.class);
+        this.presenceWriter = objectMapper.writerFor(PresenceDto.class);
+        this.eventWriter = objectMapper.writerFor(ChatEvent.class);
+    }
+
+    public String encodePayload(MessageDto message) {
+        return write(messageWriter, message);
+    }
+
+    public String encodePayload(ReadStatusDto readStatus) {
+        return write(readStatusWriter, readStatus);
+    }
+
+    public String encodePayload(TypingDto typing) {
+        return write(typingWriter, typing);
+    }
+
+    public String encodePayload(PresenceDto presence) {
+        return write(presenceWriter, presence);
+    }
+
+    public String encode(ChatEvent event) {
+        return write(eventWriter, event);
+    }
+
+    private static String write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 이벤트 직렬화 실패", e);
+        }
+    }
+}
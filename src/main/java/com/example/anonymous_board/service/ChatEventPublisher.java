@@ -0,0 +1,235 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.dto.ChatEvent;
+import com.example.anonymous_board.dto.MessageDto;
+import com.example.anonymous_board.dto.PresenceDto;
+import com.example.anonymous_board.dto.ReadStatusDto;
+import com.example.anonymous_board.dto.TypingDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 이벤트 발행 서비스
+ * - 이벤트를 사용자별 Redis Stream(chat:stream:{userId})에 추가하여 재연결 시 놓친 이벤트를 다시 보낼 수 있도록 보관
+ *   (MAXLEN으로 최근 이벤트만 유지, 일정 시간 이벤트가 없으면 만료)
+ * - 실시간 전달은 사용자별 Redis 채널(chat:user:{userId})로 발행하여,
+ *   해당 사용자의 WebSocket 세션이 연결된 서버만 구독/처리하도록 함
+ * - 입력 중/접속 상태 같은 일시적인 신호는 Stream에 저장하지 않고 채널로만 발행
+ * - 채팅 메시지/읽음 상태는 DB 커밋 후 ChatEventRelay를 통해 모아서 발행 (Stream 저장/발행이 실패하면 Relay가 다시 시도하며,
+ *   다시 시도하는 동안 같은 이벤트가 한 번 더 전달될 수 있음 - 클라이언트는 메시지 ID로 중복 제거)
+ * - 이벤트는 ChatEvent 봉투(type, version, eventId, payload)로 한 번만 직렬화되며,
+ *   eventId(Stream 항목 ID)는 클라이언트가 재연결 시 마지막으로 받은 위치로 보냄
+ */
+@Slf4j
+@Service
+public class ChatEventPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatEventCodec codec;
+    private final long streamMaxLength;
+    private final Duration streamTtl;
+    private final int replayLimit;
+
+    public static final String USER_CHANNEL_PREFIX = "chat:user:";
+    public static final String PRESENCE_CHANNEL_PREFIX = "chat:presence:";
+    private static final String USER_STREAM_PREFIX = "chat:stream:";
+    private static final String TYPE_FIELD = "type";
+    private static final String VERSION_FIELD = "v";
+    private static final String PAYLOAD_FIELD = "payload";
+    // RESYNC는 payload가 없지만 Stream 항목/봉투 형식을 맞추기 위해 빈 객체 사용
+    private static final String RESYNC_PAYLOAD = "{}";
+
+    public ChatEventPublisher(
+            StringRedisTemplate redisTemplate,
+            ChatEventCodec codec,
+            @Value("${chat.stream.max-length:500}") long streamMaxLength,
+            @Value("${chat.stream.ttl-hours:24}") long streamTtlHours,
+            @Value("${chat.stream.replay-limit:200}") int replayLimit) {
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.streamMaxLength = streamMaxLength;
+        this.streamTtl = Duration.ofHours(streamTtlHours);
+        this.replayLimit = replayLimit;
+    }
+
+    public static String userChannel(Long userId) {
+        return USER_CHANNEL_PREFIX + userId;
+    }
+
+    public static String presenceChannel(Long userId) {
+        return PRESENCE_CHANNEL_PREFIX + userId;
+    }
+
+    private static String userStream(Long userId) {
+        return USER_STREAM_PREFIX + userId;
+    }
+
+    /**
+     * 채팅 메시지/읽음 상태 이벤트를 한 번에 발행 (ChatEventRelay가 커밋된 이벤트를 모아서 호출)
+     * - 메시지는 수신자와 발신자 모두에게 (발신자는 다른 기기/탭 동기화용), 읽음 상태는 메시지를 보낸 사람에게만
+     * - Stream 저장(XADD + MAXLEN, EXPIRE)과 채널 발행을 각각 pipeline 한 번으로 처리
+     *
+     * @param events MessageDto 또는 ReadStatusDto (발생 순서대로)
+     */
+    public void publishAll(List<?> events) {
+        List<Outgoing> outgoing = new ArrayList<>(events.size() * 2);
+        for (Object event : events) {
+            if (event instanceof MessageDto message) {
+                String payload = codec.encodePayload(message);
+                outgoing.add(new Outgoing(message.getReceiverId(), ChatEvent.Type.MESSAGE, payload));
+                if (!message.getSenderId().equals(message.getReceiverId())) {
+                    outgoing.add(new Outgoing(message.getSenderId(), ChatEvent.Type.MESSAGE, payload));
+                }
+            } else if (event instanceof ReadStatusDto readStatus) {
+                outgoing.add(new Outgoing(readStatus.getSenderId(), ChatEvent.Type.READ_STATUS,
+                        codec.encodePayload(readStatus)));
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 채팅 이벤트입니다: " + event.getClass().getName());
+            }
+        }
+        publishOutgoing(outgoing);
+    }
+
+    /**
+     * 이벤트를 전달하지 못한 사용자에게 RESYNC 발행 (ChatEventRelay가 이벤트를 버린 경우)
+     * Stream에도 저장하여, 연결이 끊겨 있던 사용자도 재연결 시 replay에서 대화 전체를 다시 불러오도록 함
+     */
+    public void publishResync(Collection<Long> userIds) {
+        List<Outgoing> outgoing = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            outgoing.add(new Outgoing(userId, ChatEvent.Type.RESYNC, RESYNC_PAYLOAD));
+        }
+        publishOutgoing(outgoing);
+    }
+
+    // Stream 저장 후 채널 발행 (실패하면 예외, ChatEventRelay가 다시 시도)
+    private void publishOutgoing(List<Outgoing> outgoing) {
+        if (outgoing.isEmpty()) {
+            return;
+        }
+
+        List<String> eventIds = appendToStreams(outgoing);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int i = 0; i < outgoing.size(); i++) {
+                Outgoing event = outgoing.get(i);
+                ChatEvent chatEvent = new ChatEvent(event.type(), ChatEvent.CURRENT_VERSION, eventIds.get(i),
+                        event.payload());
+                stringConnection.publish(userChannel(event.userId()), codec.encode(chatEvent));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 입력 중 알림 발행 (대화 상대에게만, Stream에 저장하지 않음)
+     */
+    public void publishTyping(TypingDto typing) {
+        publishEphemeral(userChannel(typing.getReceiverId()), ChatEvent.Type.TYPING, codec.encodePayload(typing));
+    }
+
+    /**
+     * 접속 상태 변경 발행 (해당 사용자의 접속 상태 채널, Stream에 저장하지 않음)
+     */
+    public void publishPresence(PresenceDto presence) {
+        publishEphemeral(presenceChannel(presence.getUserId()), ChatEvent.Type.PRESENCE, codec.encodePayload(presence));
+    }
+
+    /**
+     * 마지막으로 받은 이벤트 이후의 이벤트 목록 (오래된 순)
+     * 마지막 이벤트가 이미 보관 범위 밖이거나 놓친 이벤트가 너무 많으면
+     * 대화 전체를 다시 불러오도록 RESYNC 이벤트 하나만 반환
+     */
+    public List<ChatEvent> replaySince(Long userId, String lastEventId) {
+        try {
+            RecordId.of(lastEventId); // 형식 검증
+        } catch (IllegalArgumentException e) {
+            return List.of(ChatEvent.resync());
+        }
+
+        // 마지막 이벤트부터 조회하여 아직 보관 중인지 함께 확인
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                userStream(userId),
+                Range.rightUnbounded(Range.Bound.inclusive(lastEventId)),
+                Limit.limit().count(replayLimit + 2));
+        if (records == null || records.isEmpty()) {
+            // 보관된 이벤트가 없음 (마지막 이벤트 이후 새 이벤트 없이 만료됨)
+            return List.of();
+        }
+        if (!lastEventId.equals(records.get(0).getId().getValue()) || records.size() - 1 > replayLimit) {
+            return List.of(ChatEvent.resync());
+        }
+
+        List<ChatEvent> events = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records.subList(1, records.size())) {
+            Map<Object, Object> fields = record.getValue();
+            try {
+                int version = Integer.parseInt((String) fields.get(VERSION_FIELD));
+                if (version != ChatEvent.CURRENT_VERSION) {
+                    continue;
+                }
+                events.add(new ChatEvent(ChatEvent.Type.valueOf((String) fields.get(TYPE_FIELD)),
+                        version, record.getId().getValue(), (String) fields.get(PAYLOAD_FIELD)));
+            } catch (Exception e) {
+                log.warn("채팅 이벤트 복원 실패: userId={}, eventId={}", userId, record.getId());
+            }
+        }
+        return events;
+    }
+
+    // 저장/재전송이 필요 없는 신호는 채널로만 발행
+    private void publishEphemeral(String channel, ChatEvent.Type type, String payload) {
+        ChatEvent event = new ChatEvent(type, ChatEvent.CURRENT_VERSION, null, payload);
+        redisTemplate.convertAndSend(channel, codec.encode(event));
+    }
+
+    // Stream에 이벤트 추가 후 항목 ID 목록 반환
+    // (실패하면 예외 - Stream에 없는 이벤트를 실시간으로만 보내면 재연결 시 replay로 복구할 수 없으므로 함께 재시도)
+    private List<String> appendToStreams(List<Outgoing> outgoing) {
+        List<String> eventIds = new ArrayList<>(Collections.nCopies(outgoing.size(), null));
+        XAddOptions options = XAddOptions.maxlen(streamMaxLength).approximateTrimming(true);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Outgoing event : outgoing) {
+                String key = userStream(event.userId());
+                stringConnection.xAdd(StreamRecords.string(Map.of(
+                        TYPE_FIELD, event.type().name(),
+                        VERSION_FIELD, String.valueOf(ChatEvent.CURRENT_VERSION),
+                        PAYLOAD_FIELD, event.payload())).withStreamKey(key), options);
+                stringConnection.expire(key, streamTtl.toSeconds());
+            }
+            return null;
+        });
+        // 이벤트마다 XADD, EXPIRE 결과 두 개씩
+        for (int i = 0; i < outgoing.size(); i++) {
+            Object result = results.get(i * 2);
+            if (result instanceof RecordId recordId) {
+                eventIds.set(i, recordId.getValue());
+            } else if (result != null) {
+                eventIds.set(i, result.toString());
+            }
+        }
+        return eventIds;
+    }
+
+    // 사용자 한 명에게 보낼 이벤트
+    private record Outgoing(Long userId, ChatEvent.Type type, String payload) {
+    }
+}
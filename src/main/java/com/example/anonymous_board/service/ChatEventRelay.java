@@ -0,0 +1,202 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.dto.MessageDto;
+import com.example.anonymous_board.dto.ReadStatusDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 이벤트 릴레이 (트랜잭션 커밋 후 발행)
+ * - 메시지 저장/읽음 위치 이동 트랜잭션 안에서 이벤트를 등록하고, 커밋된 경우에만 대기열에 추가
+ *   (롤백된 데이터의 이벤트는 발행되지 않고, Redis 호출 시간이 DB 트랜잭션에 포함되지 않음)
+ * - 대기열의 이벤트는 전용 스레드에서 주기적으로 모아서 ChatEventPublisher로 한 번에 발행
+ * - 발행에 실패한 배치는 재시도 버퍼(배치 하나)에 두고 대기열 앞에서 먼저 다시 시도하며,
+ *   실패가 이어지면 max-backoff-ms까지 간격을 늘림 (재시도가 끝날 때까지 대기열에서 더 꺼내지 않음)
+ * - 대기열이 가득 차면 커밋한 스레드에서 대기 중인 이벤트를 먼저 발행하고 다시 넣음
+ * - Redis 장애가 길어져 그래도 넣을 수 없으면 그 이벤트만 버리고, 대상 사용자에게 RESYNC를 예약
+ *   (Redis가 복구되면 Stream/채널로 RESYNC를 보내 대화 전체를 다시 불러오도록 함)
+ */
+@Slf4j
+@Service
+public class ChatEventRelay {
+
+    private final ChatEventPublisher chatEventPublisher;
+    private final BlockingQueue<Object> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long maxBackoffMs;
+
+    // 발행에 실패한 배치 (flushLock을 잡은 상태에서만 변경, 배치 하나 이하)
+    private final Deque<Object> retryBuffer = new ConcurrentLinkedDeque<>();
+
+    // 이벤트를 버려서 RESYNC를 보내야 하는 사용자
+    private final Set<Long> resyncUserIds = ConcurrentHashMap.newKeySet();
+
+    // 주기적 발행 전용 스레드 (다른 @Scheduled 작업에 밀리지 않도록)
+    private final ThreadPoolTaskScheduler flushScheduler;
+
+    // 발행은 한 번에 하나씩 (이벤트 순서 유지)
+    private final Object flushLock = new Object();
+
+    // 연속 실패 시 다음 시도 시각과 현재 간격 (flushLock을 잡은 상태에서만 변경)
+    private long nextAttemptAt = 0;
+    private long backoffMs = 0;
+
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public ChatEventRelay(
+            ChatEventPublisher chatEventPublisher,
+            @Value("${chat.relay.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.relay.batch-size:200}") int batchSize,
+            @Value("${chat.relay.flush-interval-ms:20}") long flushIntervalMs,
+            @Value("${chat.relay.max-backoff-ms:5000}") long maxBackoffMs) {
+        this.chatEventPublisher = chatEventPublisher;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        this.flushScheduler = new ThreadPoolTaskScheduler();
+        flushScheduler.setPoolSize(1);
+        flushScheduler.setThreadNamePrefix("chat-relay-");
+        flushScheduler.initialize();
+    }
+
+    @PostConstruct
+    public void start() {
+        flushScheduler.scheduleWithFixedDelay(this::flush, Duration.ofMillis(flushIntervalMs));
+    }
+
+    // 메시지 저장 커밋 후 (ChatMessageWriter)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessage(MessageDto message) {
+        enqueue(message);
+    }
+
+    // 읽음 위치 이동 커밋 후 (MessageService)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReadStatus(ReadStatusDto readStatus) {
+        enqueue(readStatus);
+    }
+
+    public void flush() {
+        if (queue.isEmpty() && retryBuffer.isEmpty() && resyncUserIds.isEmpty()) {
+            return;
+        }
+        synchronized (flushLock) {
+            drain();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+        synchronized (flushLock) {
+            // 종료 전 마지막 시도는 재시도 간격과 관계없이 실행
+            nextAttemptAt = 0;
+            drain();
+        }
+        log.info("채팅 이벤트 릴레이 종료: 발행 {} 건, 버림 {} 건, 발행하지 못한 이벤트 {} 건, RESYNC 대기 {} 명",
+                relayedCount.get(), droppedCount.get(), getQueueDepth(), resyncUserIds.size());
+    }
+
+    public int getQueueDepth() {
+        return queue.size() + retryBuffer.size();
+    }
+
+    private void enqueue(Object event) {
+        if (queue.offer(event)) {
+            return;
+        }
+        log.warn("채팅 이벤트 대기열 가득 참, 바로 발행: queueDepth={}", queue.size());
+        synchronized (flushLock) {
+            drain();
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        // 발행이 계속 실패하고 있음 -> 이 이벤트는 버리고 대상 사용자가 대화 전체를 다시 불러오도록 함
+        droppedCount.incrementAndGet();
+        if (event instanceof MessageDto message) {
+            resyncUserIds.add(message.getReceiverId());
+            resyncUserIds.add(message.getSenderId());
+        } else if (event instanceof ReadStatusDto readStatus) {
+            resyncUserIds.add(readStatus.getSenderId());
+        }
+        log.error("채팅 이벤트 대기열 가득 참, 이벤트 버림 (RESYNC 예약): queueDepth={}", queue.size());
+    }
+
+    // flushLock을 잡은 상태에서 호출
+    private void drain() {
+        if (System.currentTimeMillis() < nextAttemptAt) {
+            return;
+        }
+
+        // 실패했던 배치부터 다시 발행 (실패하면 대기열에서 더 꺼내지 않음)
+        if (!retryBuffer.isEmpty()) {
+            if (!publish(new ArrayList<>(retryBuffer))) {
+                return;
+            }
+            retryBuffer.clear();
+        }
+
+        List<Object> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!publish(batch)) {
+                retryBuffer.addAll(batch);
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+
+        // 버린 이벤트가 있으면 앞선 이벤트를 모두 보낸 뒤 RESYNC 발행
+        if (!resyncUserIds.isEmpty()) {
+            List<Long> userIds = new ArrayList<>(resyncUserIds);
+            try {
+                chatEventPublisher.publishResync(userIds);
+                userIds.forEach(resyncUserIds::remove);
+                log.info("채팅 RESYNC 발행: {} 명", userIds.size());
+            } catch (Exception e) {
+                backOff();
+                log.warn("채팅 RESYNC 발행 실패: {} 명, {}", userIds.size(), e.getMessage());
+            }
+        }
+    }
+
+    // 발행 성공 여부 반환 (실패하면 다음 시도까지 간격을 늘림)
+    private boolean publish(List<Object> batch) {
+        try {
+            chatEventPublisher.publishAll(batch);
+            relayedCount.addAndGet(batch.size());
+            backoffMs = 0;
+            return true;
+        } catch (Exception e) {
+            backOff();
+            log.warn("채팅 이벤트 발행 실패, {}ms 후 재시도: {} 건, {}", backoffMs, batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void backOff() {
+        backoffMs = backoffMs == 0 ? flushIntervalMs : Math.min(backoffMs * 2, maxBackoffMs);
+        nextAttemptAt = System.currentTimeMillis() + backoffMs;
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.dto.MessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 저장
+ * - 메시지 ID는 시퀀스에서 먼저 발급받고, 메시지 행은 요청 스레드에서 바로 INSERT 하여 커밋한 뒤 응답
+ *   (보낸 사람이 성공 응답을 받은 메시지는 서버가 비정상 종료되어도 유실되지 않음)
+ * - 메시지 이벤트는 저장 트랜잭션이 커밋된 후 ChatEventRelay가 발행
+ * - 대화방 마지막 메시지/읽지 않은 수 갱신만 크기가 제한된 큐에 쌓았다가 주기적으로 대화방별로 합쳐서 JDBC batch UPDATE
+ *   (대화방 행은 메시지 저장 트랜잭션에서 미리 만들어 두고, 읽지 않은 수는 메시지 테이블과 읽음 위치로 다시 계산하므로
+ *   읽음 처리와 순서가 바뀌어도 값이 어긋나지 않음)
+ * - 큐가 가득 차면 잠시 기다린 후 요청 스레드에서 대기 중인 갱신을 먼저 반영 (속도 조절)
+ * - 일시적인 DB 오류로 반영하지 못한 갱신은 재시도 버퍼(배치 하나 이하)에 보관하여 다음 주기에 먼저 재시도하고,
+ *   재시도가 끝날 때까지 큐에서 더 꺼내지 않음
+ * - 갱신은 전용 스레드에서 주기적으로 실행 (다른 @Scheduled 작업에 밀리지 않도록)
+ * - 애플리케이션 종료 시 남은 갱신을 모두 반영
+ * 서버가 비정상 종료되면 대기 중인 대화방 갱신(채팅 목록의 미리보기/읽지 않은 수)만 유실되며,
+ * 해당 대화방에 다음 메시지가 저장되거나 읽음 처리될 때 메시지 테이블 기준으로 다시 맞춰짐
+ */
+@Slf4j
+@Service
+public class ChatMessageWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<MessageDto> queue;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final long flushIntervalMs;
+
+    // 일시적인 오류로 반영하지 못한 대화방 갱신 (flushLock을 잡은 상태에서만 변경, 배치 하나 이하)
+    private final Deque<MessageDto> retryBuffer = new ConcurrentLinkedDeque<>();
+
+    // 주기적 반영 전용 스레드
+    private final ThreadPoolTaskScheduler flushScheduler;
+
+    // 배치 반영은 한 번에 하나씩 (스케줄러/요청 스레드 간 순서 보장)
+    private final Object flushLock = new Object();
+
+    // PostgreSQL 여부 (처음 사용할 때 확인, 메시지 ID 발급/대화방 생성 SQL 선택)
+    private volatile Boolean postgreSql;
+
+    // 저장 현황 (Micrometer)
+    private final Counter persistedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter droppedCounter;
+    private final Counter retriedCounter;
+    private final Timer flushTimer;
+
+    private static final String MESSAGE_SEQUENCE = "message_id_seq";
+
+    // 채팅 목록에 표시할 마지막 메시지 미리보기 길이
+    private static final int PREVIEW_LENGTH = 100;
+
+    private static final String INSERT_MESSAGE_SQL = "INSERT INTO message (id, sender_id, receiver_id, content, created_at)"
+            + " VALUES (?, ?, ?, ?, ?)";
+    // 대화방이 없으면 생성 (PostgreSQL, 유니크 제약 uk_user_conversation_pair 기준, 이미 있으면 아무 것도 하지 않음)
+    private static final String ENSURE_INBOX_SQL = "INSERT INTO user_conversation (user_id, other_user_id, hidden,"
+            + " unread_count) VALUES (?, ?, false, 0) ON CONFLICT (user_id, other_user_id) DO NOTHING";
+    // 그 외 DB (H2 등): 없는 경우에만 INSERT (동시에 만들어져 유니크 제약에 걸리면 이미 있는 것으로 처리)
+    private static final String COUNT_INBOX_SQL = "SELECT COUNT(*) FROM user_conversation"
+            + " WHERE user_id = ? AND other_user_id = ?";
+    private static final String INSERT_INBOX_SQL = "INSERT INTO user_conversation (user_id, other_user_id, hidden,"
+            + " unread_count) VALUES (?, ?, false, 0)";
+    // 마지막 메시지는 더 최근 메시지일 때만 바꾸고, 읽지 않은 수는 읽음 위치 이후 받은 메시지 수로 다시 계산
+    // (UserConversationRepository.advanceLastReadMessageId와 같은 기준)
+    private static final String UPDATE_INBOX_SQL = "UPDATE user_conversation SET"
+            + " last_message_preview = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ?"
+            + " ELSE last_message_preview END,"
+            + " last_message_at = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ?"
+            + " ELSE last_message_at END,"
+            + " last_message_id = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ?"
+            + " ELSE last_message_id END,"
+            + " unread_count = (SELECT COUNT(*) FROM message m WHERE m.sender_id = user_conversation.other_user_id"
+            + " AND m.receiver_id = user_conversation.user_id"
+            + " AND (user_conversation.last_read_message_id IS NULL OR m.id > user_conversation.last_read_message_id)),"
+            + " hidden = false"
+            + " WHERE user_id = ? AND other_user_id = ?";
+
+    public ChatMessageWriter(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${chat.write.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.write.batch-size:200}") int batchSize,
+            @Value("${chat.write.offer-timeout-ms:200}") long offerTimeoutMs,
+            @Value("${chat.write.flush-interval-ms:100}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.flushIntervalMs = flushIntervalMs;
+
+        Gauge.builder("chat.write.queue.depth", this, ChatMessageWriter::getQueueDepth)
+                .description("반영 대기 중인 대화방 갱신 수 (재시도 대기 포함)")
+                .register(meterRegistry);
+        this.persistedCounter = Counter.builder("chat.write.persisted")
+                .description("저장한 채팅 메시지 수").register(meterRegistry);
+        this.callerRunsCounter = Counter.builder("chat.write.caller.runs")
+                .description("대기열이 가득 차 요청 스레드에서 대화방 갱신을 반영한 횟수").register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.write.dropped")
+                .description("대기열에 넣지 못해 건너뛴 대화방 갱신 수").register(meterRegistry);
+        this.retriedCounter = Counter.builder("chat.write.retried")
+                .description("일시적인 오류로 재시도 버퍼에 넣은 대화방 갱신 수").register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.write.flush")
+                .description("대화방 갱신 배치 트랜잭션 시간").register(meterRegistry);
+
+        this.flushScheduler = new ThreadPoolTaskScheduler();
+        flushScheduler.setPoolSize(1);
+        flushScheduler.setThreadNamePrefix("chat-writer-");
+        flushScheduler.initialize();
+    }
+
+    @PostConstruct
+    public void start() {
+        flushScheduler.scheduleWithFixedDelay(this::flushPending, Duration.ofMillis(flushIntervalMs));
+    }
+
+    /**
+     * 새 메시지 ID 발급 (메시지 테이블 시퀀스)
+     */
+    public Long nextId() {
+        String nextIdSql = isPostgreSql()
+                ? "SELECT nextval('" + MESSAGE_SEQUENCE + "')"
+                : "SELECT NEXT VALUE FOR " + MESSAGE_SEQUENCE;
+        return jdbcTemplate.queryForObject(nextIdSql, Long.class);
+    }
+
+    /**
+     * 메시지 저장 (커밋까지 완료한 뒤 반환, 실패하면 예외)
+     * 메시지 INSERT와 대화방 행 생성만 한 트랜잭션으로 처리하고, 대화방 마지막 메시지/읽지 않은 수 갱신은 대기열에 추가
+     * 호출한 쪽 트랜잭션 밖에서 호출 (커넥션을 잡은 채로 두 번째 커넥션을 기다리지 않도록)
+     */
+    public void save(MessageDto message) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_MESSAGE_SQL, message.getId(), message.getSenderId(), message.getReceiverId(),
+                    message.getContent(), Timestamp.valueOf(message.getCreatedAt()));
+            ensureInbox(message.getSenderId(), message.getReceiverId());
+            ensureInbox(message.getReceiverId(), message.getSenderId());
+            // 커밋된 경우에만 ChatEventRelay가 발행
+            eventPublisher.publishEvent(message);
+        });
+        persistedCounter.increment();
+        submitInboxUpdate(message);
+    }
+
+    /**
+     * 대기 중인 대화방 갱신을 모두 반영
+     */
+    public void flushPending() {
+        if (queue.isEmpty() && retryBuffer.isEmpty()) {
+            return;
+        }
+        synchronized (flushLock) {
+            drain();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+        flushPending();
+        int remaining = getQueueDepth();
+        if (remaining > 0) {
+            log.error("채팅 대화방 갱신 종료: 반영하지 못한 갱신 {} 건", remaining);
+        } else {
+            log.info("채팅 메시지 저장 종료: 저장 {} 건", (long) persistedCounter.count());
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size() + retryBuffer.size();
+    }
+
+    /**
+     * 대화방 갱신을 대기열에 추가
+     * 큐가 가득 차 있으면 offerTimeoutMs 동안 기다리고, 그래도 자리가 없으면 호출한 스레드에서 대기 중인 갱신을 반영한 뒤 다시 시도
+     * (메시지는 이미 커밋되었으므로 여기서는 예외를 던지지 않음, 끝내 넣지 못한 갱신은 다음 메시지/읽음 처리 때 맞춰짐)
+     */
+    private void submitInboxUpdate(MessageDto message) {
+        try {
+            if (queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            callerRunsCounter.increment();
+            log.warn("채팅 대화방 갱신 대기열 가득 참, 바로 반영: queueDepth={}", queue.size());
+            flushPending();
+            if (queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCounter.increment();
+        log.error("채팅 대화방 갱신 건너뜀: messageId={}, senderId={}, receiverId={}",
+                message.getId(), message.getSenderId(), message.getReceiverId());
+    }
+
+    // 대화방 행이 없으면 생성 (메시지 저장 트랜잭션 안에서 호출, 읽음 처리가 갱신할 행이 항상 있도록)
+    private void ensureInbox(Long userId, Long otherUserId) {
+        if (isPostgreSql()) {
+            jdbcTemplate.update(ENSURE_INBOX_SQL, userId, otherUserId);
+            return;
+        }
+        Long count = jdbcTemplate.queryForObject(COUNT_INBOX_SQL, Long.class, userId, otherUserId);
+        if (count != null && count > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_INBOX_SQL, userId, otherUserId);
+        } catch (DuplicateKeyException e) {
+            // 같은 대화방의 다른 메시지가 먼저 생성함
+        }
+    }
+
+    // flushLock을 잡은 상태에서 호출
+    private void drain() {
+        // 재시도 대기 중인 갱신부터 반영 (실패하면 큐에서 더 꺼내지 않음)
+        if (!retryBuffer.isEmpty()) {
+            List<MessageDto> batch = new ArrayList<>(retryBuffer);
+            retryBuffer.clear();
+            if (!applyOrRetry(batch)) {
+                return;
+            }
+        }
+
+        List<MessageDto> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!applyOrRetry(batch)) {
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    // 반영하지 못한 배치는 재시도 버퍼에 순서대로 다시 넣음 (다음 주기에 재시도)
+    private boolean applyOrRetry(List<MessageDto> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> updateInboxes(batch));
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("채팅 대화방 갱신 실패, 재시도 예정: {} 건, {}", batch.size(), e.getMessage());
+            retryBuffer.addAll(batch);
+            retriedCounter.increment(batch.size());
+            return false;
+        }
+    }
+
+    /**
+     * 대화방 마지막 메시지/읽지 않은 수 갱신
+     * 같은 대화방은 배치 안의 마지막 메시지로 한 번만 반영
+     */
+    private void updateInboxes(List<MessageDto> batch) {
+        Map<String, InboxUpdate> updates = new LinkedHashMap<>();
+        for (MessageDto message : batch) {
+            // 보낸 사람 대화방과 받은 사람 대화방
+            updates.computeIfAbsent(message.getSenderId() + ":" + message.getReceiverId(),
+                    key -> new InboxUpdate(message.getSenderId(), message.getReceiverId())).apply(message);
+            updates.computeIfAbsent(message.getReceiverId() + ":" + message.getSenderId(),
+                    key -> new InboxUpdate(message.getReceiverId(), message.getSenderId())).apply(message);
+        }
+
+        List<InboxUpdate> inboxUpdates = new ArrayList<>(updates.values());
+        jdbcTemplate.batchUpdate(UPDATE_INBOX_SQL, inboxUpdates, inboxUpdates.size(), (ps, update) -> {
+            Timestamp createdAt = Timestamp.valueOf(update.lastMessage.getCreatedAt());
+            ps.setLong(1, update.lastMessage.getId());
+            ps.setString(2, update.preview());
+            ps.setLong(3, update.lastMessage.getId());
+            ps.setTimestamp(4, createdAt);
+            ps.setLong(5, update.lastMessage.getId());
+            ps.setLong(6, update.lastMessage.getId());
+            ps.setLong(7, update.userId);
+            ps.setLong(8, update.otherUserId);
+        });
+    }
+
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgreSql = "PostgreSQL".equals(product);
+        }
+        return postgreSql;
+    }
+
+    // 대화방 하나에 반영할 변경 내용
+    private static class InboxUpdate {
+        private final Long userId;
+        private final Long otherUserId;
+        private MessageDto lastMessage;
+
+        private InboxUpdate(Long userId, Long otherUserId) {
+            this.userId = userId;
+            this.otherUserId = otherUserId;
+        }
+
+        // 메시지 ID 순서로 저장되지 않을 수 있으므로 가장 최근 메시지 유지
+        private void apply(MessageDto message) {
+            if (lastMessage == null || lastMessage.getId() < message.getId()) {
+                this.lastMessage = message;
+            }
+        }
+
+        private String preview() {
+            String content = lastMessage.getContent();
+            return content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content;
+        }
+    }
+}
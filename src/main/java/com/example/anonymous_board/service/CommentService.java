@@ -8,6 +8,7 @@ import com.example.anonymous_board.dto.CommentResponse;
 import com.example.anonymous_board.dto.CommentUpdateRequest;
 import com.example.anonymous_board.repository.CommentRepository;
 import com.example.anonymous_board.repository.PostRepository;
+import com.example.anonymous_board.repository.PostStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,35 +22,19 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostStatsRepository postStatsRepository;
 
     // 1. 댓글 목록 조회 (계층형 구조로 반환)
+    @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByPostId(Long postId, Member currentUser) {
         if (postId == null)
             throw new IllegalArgumentException("Post ID cannot be null");
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        // 익명 ID 부여 로직
-        // 게시글에 달린 모든 댓글(대댓글 포함)을 가져와서 작성자별로 번호 부여
-        List<Comment> allComments = post.getComments(); // 이미 로딩됨 (Lazy지만 접근 시 로딩)
-        // 작성일 순으로 정렬 (순서 보장을 위해)
-        allComments.sort((c1, c2) -> c1.getCreatedAt().compareTo(c2.getCreatedAt()));
-
-        java.util.Map<Long, Integer> anonymousMap = new java.util.HashMap<>();
-        int nextAnonymousId = 1;
-
-        for (Comment comment : allComments) {
-            Long memberId = comment.getMember().getId();
-            if (!anonymousMap.containsKey(memberId)) {
-                anonymousMap.put(memberId, nextAnonymousId++);
-            }
-        }
-
-        // 부모가 없는 최상위 댓글만 반환 (자식 댓글은 CommentResponse 내부에서 재귀적으로 처리됨)
-        return post.getComments().stream()
-                .filter(comment -> comment.getParent() == null)
-                .map(comment -> new CommentResponse(comment, currentUser, anonymousMap))
-                .collect(Collectors.toList());
+        // 게시글에 달린 모든 댓글(대댓글 포함)을 작성자와 함께 한 번에 조회 후 메모리에서 계층 구조 생성
+        List<Comment> allComments = commentRepository.findAllByPostIdWithMember(postId);
+        return CommentResponse.buildTree(allComments, currentUser, post.getMember().getId());
     }
 
     // 2. 댓글 작성
@@ -80,9 +65,10 @@ public class CommentService {
 
         commentRepository.save(comment);
 
-        // 게시글의 댓글 수 증가
-        post.incrementCommentCount();
-        postRepository.save(post);
+        // 게시글의 댓글 수 증가 (post_stats 행만 UPDATE, 통계 행이 없으면 댓글도 롤백)
+        if (postStatsRepository.addCommentCount(postId, 1) == 0) {
+            throw new IllegalStateException("게시글 통계를 찾을 수 없습니다.");
+        }
     }
 
     // 3. 댓글 삭제
@@ -99,10 +85,8 @@ public class CommentService {
             throw new IllegalArgumentException("본인이 작성한 댓글만 삭제할 수 있습니다.");
         }
 
-        // 게시글의 댓글 수 감소
-        Post post = comment.getPost();
-        post.decrementCommentCount();
-        postRepository.save(post);
+        // 게시글의 댓글 수 감소 (post_stats 행만 UPDATE, 이미 0이면 그대로)
+        postStatsRepository.addCommentCount(comment.getPost().getId(), -1);
 
         commentRepository.delete(comment);
     }
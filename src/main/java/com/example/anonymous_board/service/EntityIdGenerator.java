@@ -0,0 +1,27 @@
+package com.example.anonymous_board.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 ID 발급 (JDBC로 직접 INSERT 하는 경우)
+ * 엔티티의 @SequenceGenerator(allocationSize 50)를 그대로 사용하여 JPA 저장과 같은 방식으로 ID 블록을 나눠 씀
+ * (SQL에서 nextval을 직접 호출하면 시퀀스가 50씩 증가하므로 INSERT마다 ID 49개가 버려짐)
+ * 트랜잭션 안에서 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityIdGenerator {
+
+    private final EntityManager entityManager;
+
+    public Long nextId(Class<?> entityClass) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+        return (Long) ((IdentifierGenerator) persister.getGenerator()).generate(session, null);
+    }
+}
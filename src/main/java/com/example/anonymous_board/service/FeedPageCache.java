@@ -0,0 +1,229 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.BoardType;
+import com.example.anonymous_board.domain.Post;
+import com.example.anonymous_board.dto.PostSummaryResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 앞쪽 페이지 캐시 (stale-while-revalidate)
+ * - (게시판, 정렬, 페이지, 크기)별로 일반 게시글 목록 응답 DTO를 서버 메모리에 짧게 보관
+ *   (작성자 여부, 미반영 조회수 등 사용자별 값은 꺼낸 뒤 PostSummaryResponse.forViewer로 채움)
+ * - 보관 시간(ttl)이 지나면 이전 결과를 그대로 응답하고 백그라운드에서 한 번만 다시 불러옴
+ * - 너무 오래된 결과(max-stale)는 응답하지 않고 바로 불러오며, 같은 키의 동시 요청은 한 번의 조회를 함께 기다림
+ * - 게시글 작성/삭제 커밋 후 비우고, Redis Pub/Sub으로 다른 서버에도 알림
+ */
+@Slf4j
+@Service
+public class FeedPageCache implements MessageListener {
+
+    // 캐시 비우기 알림 채널 (메시지: 게시글 ID)
+    public static final String INVALIDATE_CHANNEL = "feed-cache-invalidate";
+
+    // 캐시하는 정렬 방식 (그 외 값은 최신순으로 처리되므로 같은 키 사용)
+    private static final Set<String> SORT_ORDERS = Set.of("latest", "likes", "dislikes", "viewCount", "comments");
+
+    private final PostService postService;
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMs;
+    private final long maxStaleMs;
+    private final int maxPage;
+    private final int maxSize;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    // 키별로 진행 중인 조회 (같은 키는 한 번만 조회)
+    private final Map<Key, CompletableFuture<Page<PostSummaryResponse>>> loading = new ConcurrentHashMap<>();
+
+    // 캐시를 비울 때마다 증가 (비우기 전에 시작한 조회 결과는 저장하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    // 백그라운드 갱신 전용 스레드 풀
+    private final ThreadPoolTaskExecutor refreshExecutor;
+
+    /**
+     * 게시글 목록 변경 이벤트 (PostService, 게시글 작성/삭제)
+     */
+    public record FeedChanged(Long postId) {
+    }
+
+    private record Key(BoardType boardType, String sortBy, int page, int size) {
+    }
+
+    private record Entry(Page<PostSummaryResponse> page, long loadedAt) {
+    }
+
+    public FeedPageCache(
+            PostService postService,
+            StringRedisTemplate redisTemplate,
+            @Value("${feed.cache.ttl-ms:2000}") long ttlMs,
+            @Value("${feed.cache.max-stale-ms:30000}") long maxStaleMs,
+            @Value("${feed.cache.max-page:3}") int maxPage,
+            @Value("${feed.cache.max-size:50}") int maxSize) {
+        this.postService = postService;
+        this.redisTemplate = redisTemplate;
+        this.ttlMs = ttlMs;
+        this.maxStaleMs = maxStaleMs;
+        this.maxPage = maxPage;
+        this.maxSize = maxSize;
+
+        this.refreshExecutor = new ThreadPoolTaskExecutor();
+        refreshExecutor.setCorePoolSize(1);
+        refreshExecutor.setMaxPoolSize(2);
+        refreshExecutor.setQueueCapacity(100);
+        refreshExecutor.setThreadNamePrefix("feed-cache-");
+        refreshExecutor.initialize();
+    }
+
+    /**
+     * 일반 게시글 목록 페이지 (공지사항 제외, 사용자별 값이 채워지지 않은 공용 DTO)
+     * 앞쪽 페이지(max-page 미만)만 캐시하고 그 외에는 바로 조회
+     */
+    public Page<PostSummaryResponse> getPage(@Nullable BoardType boardType, String sortBy, int page, int size) {
+        String sort = SORT_ORDERS.contains(sortBy) ? sortBy : "latest";
+        Key key = new Key(boardType, sort, page, size);
+        if (page < 0 || page >= maxPage || size < 1 || size > maxSize) {
+            return load(key);
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            long age = System.currentTimeMillis() - entry.loadedAt();
+            if (age < ttlMs) {
+                return entry.page();
+            }
+            if (age < maxStaleMs) {
+                // 이전 결과로 응답하고 백그라운드에서 갱신
+                refreshInBackground(key);
+                return entry.page();
+            }
+        }
+        return await(key, loadOnce(key));
+    }
+
+    /**
+     * 이 서버의 캐시 비우기
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+        // 비우기 전에 시작한 조회에 새 요청이 합류하지 않도록 분리
+        loading.clear();
+    }
+
+    // 게시글 작성/삭제 커밋 후 (롤백되면 그대로 유지)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFeedChanged(FeedChanged event) {
+        invalidate();
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(event.postId()));
+        } catch (Exception e) {
+            // 다른 서버는 보관 시간이 지나면 반영
+            log.warn("게시글 목록 캐시 비우기 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 작성/삭제된 게시글 반영 (Redis Pub/Sub)
+     */
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        invalidate();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    // 요청 스레드에서 조회 (진행 중인 같은 키의 조회가 있으면 그 결과를 기다림)
+    private CompletableFuture<Page<PostSummaryResponse>> loadOnce(Key key) {
+        CompletableFuture<Page<PostSummaryResponse>> future = new CompletableFuture<>();
+        CompletableFuture<Page<PostSummaryResponse>> existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        loadAndStore(key, future);
+        return future;
+    }
+
+    // 백그라운드에서 갱신 (이미 갱신 중이거나 스레드 풀이 가득 차면 건너뜀)
+    private void refreshInBackground(Key key) {
+        CompletableFuture<Page<PostSummaryResponse>> future = new CompletableFuture<>();
+        if (loading.putIfAbsent(key, future) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> loadAndStore(key, future));
+        } catch (TaskRejectedException e) {
+            loading.remove(key, future);
+            future.cancel(false);
+        }
+    }
+
+    private void loadAndStore(Key key, CompletableFuture<Page<PostSummaryResponse>> future) {
+        long startedGeneration = generation.get();
+        try {
+            Page<PostSummaryResponse> page = load(key);
+            Entry entry = new Entry(page, System.currentTimeMillis());
+            entries.put(key, entry);
+            // 조회 중에 캐시를 비웠으면 저장한 결과도 제거
+            if (generation.get() != startedGeneration) {
+                entries.remove(key, entry);
+            }
+            future.complete(page);
+        } catch (RuntimeException e) {
+            log.warn("게시글 목록 캐시 갱신 실패: {}", e.getMessage());
+            future.completeExceptionally(e);
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    private Page<PostSummaryResponse> load(Key key) {
+        Page<Post> posts = key.boardType() != null
+                ? postService.getAllPostsByBoardType(key.page(), key.size(), key.sortBy(), key.boardType())
+                : postService.getAllPosts(key.page(), key.size(), key.sortBy());
+        List<PostSummaryResponse> summaries = posts.getContent().stream()
+                .map(post -> new PostSummaryResponse(post, null, 0))
+                .toList();
+        return new PageImpl<>(summaries, posts.getPageable(), posts.getTotalElements());
+    }
+
+    private Page<PostSummaryResponse> await(Key key, CompletableFuture<Page<PostSummaryResponse>> future) {
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            // 합류한 백그라운드 갱신이 실행되지 못한 경우 직접 조회
+            return load(key);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
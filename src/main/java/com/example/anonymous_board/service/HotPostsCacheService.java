@@ -1,102 +1,352 @@
 package com.example.anonymous_board.service;
 
-import com.example.anonymous_board.domain.Post;
-import com.example.anonymous_board.repository.PostRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.example.anonymous_board.repository.PostStatsRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * 핫 게시글 캐싱 서비스
- * Redis를 활용하여 인기 게시글 목록을 캐싱
+ * 핫 게시글 랭킹 서비스
+ * Redis Sorted Set에 게시글별 네트 스코어(추천수 - 비추천수)를 유지하고,
+ * 추천/비추천이 커밋된 후 ZINCRBY로 점수만 갱신 (전체 재계산 없음)
+ * DB는 최초 구축 및 하루 한 번의 정합성 보정에만 사용
+ * - 재구축은 백그라운드에서 실행하고, 그동안 들어온 증감은 별도 Sorted Set에 함께 기록했다가
+ *   DB 결과와 ZUNIONSTORE로 합쳐서 교체 (재구축 중 투표가 사라지지 않음)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class HotPostsCacheService {
 
+    public enum RankingMode {
+        NET, // 네트 스코어 순
+        DECAY // 네트 스코어 + 작성 시간 가중치 (Reddit hot 방식)
+    }
+
     private final StringRedisTemplate redisTemplate;
-    private final PostRepository postRepository;
-    private final ObjectMapper objectMapper;
+    private final PostStatsRepository postStatsRepository;
+    private final RankingMode rankingMode;
 
     // Redis 키
-    private static final String HOT_POSTS_KEY = "cache:hot-posts";
+    private static final String SCORE_KEY = "ranking:hot-posts:score"; // 게시글 ID -> 네트 스코어 (투표된 모든 게시글)
+    private static final String DECAY_KEY = "ranking:hot-posts:decay"; // 게시글 ID -> 시간 가중 점수 (핫 게시글만)
+    private static final String INITIALIZED_KEY = "ranking:hot-posts:initialized";
+    private static final String REBUILD_LOCK_KEY = "ranking:hot-posts:rebuild-lock"; // 있으면 재구축 중 (값: 토큰)
+    private static final String REBUILD_KEY_SUFFIX = ":rebuild:"; // + 토큰 (재구축마다 다른 임시 키)
+    private static final String PENDING_KEY = SCORE_KEY + ":pending"; // 재구축 중 들어온 증감
+    private static final String PENDING_CREATED_KEY = SCORE_KEY + ":pending-created"; // 그 게시글의 작성 시각(초)
+
+    // 핫 게시글 기준 (네트 스코어 10점 이상)
+    public static final int HOT_MIN_SCORE = 10;
+
+    // 정합성 보정 주기 (만료되면 다음 조회 시 DB에서 다시 구축)
+    private static final Duration RECONCILE_INTERVAL = Duration.ofDays(1);
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+
+    // Reddit hot 점수 기준 시각 및 가중치 (45000초마다 10배 차이의 점수와 동일)
+    private static final long DECAY_EPOCH_SECONDS = 1134028003L;
+    private static final double DECAY_SECONDS_PER_ORDER = 45000d;
+
+    // 점수 증감 (재구축 중이면 증감 기록에도 추가)
+    private static final RedisScript<String> APPLY_VOTE_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])\n"
+                    + "if redis.call('EXISTS', KEYS[2]) == 1 then\n"
+                    + "  redis.call('ZINCRBY', KEYS[3], ARGV[2], ARGV[1])\n"
+                    + "  redis.call('HSET', KEYS[4], ARGV[1], ARGV[3])\n"
+                    + "end\n"
+                    + "return score",
+            String.class);
+
+    // 재구축 시작 (잠금을 얻으면 이전에 남은 증감 기록을 비우고 새로 기록 시작)
+    private static final RedisScript<Long> START_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then\n"
+                    + "  redis.call('DEL', KEYS[2], KEYS[3])\n"
+                    + "  return 1\n"
+                    + "end\n"
+                    + "return 0",
+            Long.class);
+
+    // 재구축 완료 (DB 결과 + 재구축 중 증감을 합쳐서 교체하고, 증감이 있었던 게시글의 [ID, 작성 시각, ...] 반환)
+    // DECAY 모드(ARGV[3] == '1')면 시간 가중 랭킹도 같은 잠금 확인 후 교체 (임시 키의 만료 시간은 제거, 핫 게시글이 없으면 삭제)
+    // 잠금을 잃었으면(만료 후 다른 서버가 시작) 결과를 버리고 nil
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then\n"
+                    + "  redis.call('DEL', KEYS[2], KEYS[7])\n"
+                    + "  return nil\n"
+                    + "end\n"
+                    + "if ARGV[3] == '1' then\n"
+                    + "  if redis.call('EXISTS', KEYS[7]) == 1 then\n"
+                    + "    redis.call('RENAME', KEYS[7], KEYS[8])\n"
+                    + "    redis.call('PERSIST', KEYS[8])\n"
+                    + "  else\n"
+                    + "    redis.call('DEL', KEYS[8])\n"
+                    + "  end\n"
+                    + "end\n"
+                    + "redis.call('ZUNIONSTORE', KEYS[5], 2, KEYS[2], KEYS[3])\n"
+                    + "local created = redis.call('HGETALL', KEYS[4])\n"
+                    + "redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4])\n"
+                    + "redis.call('SET', KEYS[6], '1', 'EX', ARGV[2])\n"
+                    + "return created",
+            List.class);
 
-    // 캐시 만료 시간 (10분)
-    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    // 재구축 전용 스레드 (요청 스레드에서 재구축하지 않음)
+    private final ThreadPoolTaskExecutor rebuildExecutor;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
 
     /**
-     * 핫 게시글 ID 목록 조회 (캐시 사용)
-     * 캐시 미스 시 DB에서 조회 후 캐싱
+     * 추천/비추천 변경 이벤트 (PostService)
+     *
+     * @param netDelta 네트 스코어 변화량 (예: 추천 +1, 추천 취소 -1, 비추천→추천 +2)
      */
-    public List<Long> getHotPostIds() {
-        try {
-            // 캐시에서 조회
-            String cached = redisTemplate.opsForValue().get(HOT_POSTS_KEY);
+    public record VoteApplied(Long postId, LocalDateTime createdAt, int netDelta) {
+    }
+
+    /**
+     * 게시글 삭제 이벤트 (PostService)
+     */
+    public record PostRemoved(Long postId) {
+    }
+
+    public HotPostsCacheService(
+            StringRedisTemplate redisTemplate,
+            PostStatsRepository postStatsRepository,
+            @Value("${hot-posts.ranking:net}") String rankingMode) {
+        this.redisTemplate = redisTemplate;
+        this.postStatsRepository = postStatsRepository;
+        this.rankingMode = RankingMode.valueOf(rankingMode.toUpperCase());
+
+        this.rebuildExecutor = new ThreadPoolTaskExecutor();
+        rebuildExecutor.setCorePoolSize(1);
+        rebuildExecutor.setMaxPoolSize(1);
+        rebuildExecutor.setQueueCapacity(1);
+        rebuildExecutor.setThreadNamePrefix("hot-posts-");
+        rebuildExecutor.initialize();
+    }
+
+    /**
+     * 핫 게시글 ID 페이지 조회 (Sorted Set에서 바로 페이지 단위로 조회)
+     * 구축되지 않았거나 보정 주기가 지났으면 백그라운드 재구축을 시작하고 현재 랭킹으로 응답
+     */
+    public Page<Long> getHotPostIds(int page, int size) {
+        if (!isInitialized()) {
+            rebuildInBackground();
+        }
 
-            if (cached != null) {
-                log.debug("핫 게시글 캐시 히트");
-                return objectMapper.readValue(cached, new TypeReference<List<Long>>() {
-                });
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        long offset = (long) page * size;
+
+        Set<String> members;
+        Long total;
+        if (rankingMode == RankingMode.DECAY) {
+            members = zSet.reverseRange(DECAY_KEY, offset, offset + size - 1);
+            total = zSet.zCard(DECAY_KEY);
+        } else {
+            members = zSet.reverseRangeByScore(SCORE_KEY, HOT_MIN_SCORE, Double.POSITIVE_INFINITY, offset, size);
+            total = zSet.count(SCORE_KEY, HOT_MIN_SCORE, Double.POSITIVE_INFINITY);
+        }
+
+        List<Long> postIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                postIds.add(Long.valueOf(member));
             }
+        }
 
-            // 캐시 미스: DB에서 조회
-            log.debug("핫 게시글 캐시 미스 - DB 조회");
-            return refreshCache();
+        return new PageImpl<>(postIds, PageRequest.of(page, size), total != null ? total : 0);
+    }
+
+    // 추천/비추천 커밋 후 (롤백된 투표는 랭킹에 반영하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoteApplied(VoteApplied event) {
+        try {
+            applyVote(event.postId(), event.createdAt(), event.netDelta());
+        } catch (Exception e) {
+            // 다음 정합성 보정 때 DB 값으로 맞춰짐
+            log.warn("핫 게시글 랭킹 갱신 실패: postId={}, {}", event.postId(), e.getMessage());
+        }
+    }
 
-        } catch (JsonProcessingException e) {
-            log.error("캐시 파싱 에러: {}", e.getMessage());
-            return refreshCache();
+    // 게시글 삭제 커밋 후
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostRemoved(PostRemoved event) {
+        try {
+            removePost(event.postId());
+        } catch (Exception e) {
+            log.warn("핫 게시글 랭킹에서 삭제 실패: postId={}, {}", event.postId(), e.getMessage());
         }
     }
 
     /**
-     * 캐시 갱신 (DB에서 조회 후 Redis에 저장)
+     * 추천/비추천 반영 (ZINCRBY로 네트 스코어만 증감)
+     * 아직 구축되지 않았어도 반영 (구축이 끝나면 DB 값 + 구축 중 증감으로 교체됨)
+     *
+     * @param netDelta 네트 스코어 변화량 (예: 추천 +1, 추천 취소 -1, 비추천→추천 +2)
      */
-    public List<Long> refreshCache() {
-        // 상위 50개 핫 게시글 ID만 캐싱 (네트 스코어 10점 이상, 정렬은 Repository에서 처리)
-        Pageable pageable = PageRequest.of(0, 50);
-        Page<Post> hotPosts = postRepository.findHotPosts(10, pageable);
+    public void applyVote(Long postId, LocalDateTime createdAt, int netDelta) {
+        if (netDelta == 0) {
+            return;
+        }
 
-        List<Long> postIds = hotPosts.getContent().stream()
-                .map(Post::getId)
-                .collect(Collectors.toList());
+        long createdSeconds = epochSeconds(createdAt);
+        String result = redisTemplate.execute(APPLY_VOTE_SCRIPT,
+                List.of(SCORE_KEY, REBUILD_LOCK_KEY, PENDING_KEY, PENDING_CREATED_KEY),
+                postId.toString(), String.valueOf(netDelta), String.valueOf(createdSeconds));
 
-        try {
-            String json = objectMapper.writeValueAsString(postIds);
-            redisTemplate.opsForValue().set(HOT_POSTS_KEY, json, CACHE_TTL);
-            log.info("핫 게시글 캐시 갱신: {} 건, TTL=10분", postIds.size());
-        } catch (JsonProcessingException e) {
-            log.error("캐시 저장 에러: {}", e.getMessage());
+        if (rankingMode == RankingMode.DECAY && result != null) {
+            updateDecay(postId.toString(), Double.parseDouble(result), createdSeconds);
         }
+    }
 
-        return postIds;
+    /**
+     * 게시글 삭제 시 랭킹에서 제거
+     */
+    public void removePost(Long postId) {
+        redisTemplate.opsForZSet().remove(SCORE_KEY, postId.toString());
+        redisTemplate.opsForZSet().remove(DECAY_KEY, postId.toString());
+        redisTemplate.opsForZSet().remove(PENDING_KEY, postId.toString());
     }
 
     /**
-     * 캐시 무효화 (게시글 추천/비추천 시 호출)
+     * DB에서 랭킹 재구축 (한 서버에서만 실행)
+     * 1. 잠금을 얻고 증감 기록 시작  2. DB 조회 후 임시 키에 구축
+     * 3. 임시 키 + 구축 중 증감을 ZUNIONSTORE로 합쳐서 교체
+     * (잠금을 얻은 직후 ~ DB 조회 시작 사이에 커밋된 투표는 두 번 반영될 수 있으며 다음 보정 때 맞춰짐)
      */
-    public void invalidateCache() {
-        redisTemplate.delete(HOT_POSTS_KEY);
-        log.debug("핫 게시글 캐시 무효화");
+    public void rebuildRanking() {
+        String token = UUID.randomUUID().toString();
+        Long started = redisTemplate.execute(START_REBUILD_SCRIPT,
+                List.of(REBUILD_LOCK_KEY, PENDING_KEY, PENDING_CREATED_KEY),
+                token, String.valueOf(REBUILD_LOCK_TTL.toSeconds()));
+        if (started == null || started != 1L) {
+            return;
+        }
+
+        List<Object[]> rows = postStatsRepository.findVotedPostScores();
+
+        Set<ZSetOperations.TypedTuple<String>> scores = new HashSet<>();
+        Set<ZSetOperations.TypedTuple<String>> decayScores = new HashSet<>();
+        for (Object[] row : rows) {
+            String postId = row[0].toString();
+            double netScore = ((Number) row[1]).doubleValue();
+            scores.add(new DefaultTypedTuple<>(postId, netScore));
+            if (netScore >= HOT_MIN_SCORE) {
+                decayScores.add(new DefaultTypedTuple<>(postId,
+                        decayScore(netScore, epochSeconds((LocalDateTime) row[2]))));
+            }
+        }
+
+        String scoreRebuildKey = SCORE_KEY + REBUILD_KEY_SUFFIX + token;
+        String decayRebuildKey = DECAY_KEY + REBUILD_KEY_SUFFIX + token;
+        boolean decayMode = rankingMode == RankingMode.DECAY;
+        writeSortedSet(scoreRebuildKey, scores);
+        if (decayMode) {
+            writeSortedSet(decayRebuildKey, decayScores);
+        }
+
+        List<?> pendingCreated = redisTemplate.execute(FINISH_REBUILD_SCRIPT,
+                List.of(REBUILD_LOCK_KEY, scoreRebuildKey, PENDING_KEY, PENDING_CREATED_KEY, SCORE_KEY,
+                        INITIALIZED_KEY, decayRebuildKey, DECAY_KEY),
+                token, String.valueOf(RECONCILE_INTERVAL.toSeconds()), decayMode ? "1" : "0");
+        if (pendingCreated == null) {
+            log.warn("핫 게시글 랭킹 재구축 중 잠금이 만료되어 결과를 버림");
+            return;
+        }
+
+        // 재구축 중 투표된 게시글은 합쳐진 점수로 시간 가중 점수 다시 계산
+        if (decayMode) {
+            for (int i = 0; i + 1 < pendingCreated.size(); i += 2) {
+                String postId = pendingCreated.get(i).toString();
+                Double netScore = redisTemplate.opsForZSet().score(SCORE_KEY, postId);
+                if (netScore != null) {
+                    updateDecay(postId, netScore, Long.parseLong(pendingCreated.get(i + 1).toString()));
+                }
+            }
+        }
+
+        log.info("핫 게시글 랭킹 재구축: 투표된 게시글 {} 건, 핫 게시글 {} 건, 재구축 중 투표된 게시글 {} 건",
+                scores.size(), decayScores.size(), pendingCreated.size() / 2);
     }
 
     /**
-     * 캐시 존재 여부 확인
+     * 랭킹 구축 여부 확인
      */
-    public boolean isCached() {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(HOT_POSTS_KEY));
+    public boolean isInitialized() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(INITIALIZED_KEY));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+
+    // 이 서버에서 이미 재구축을 예약했으면 건너뜀 (다른 서버와는 Redis 잠금으로 구분)
+    private void rebuildInBackground() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildRanking();
+                } catch (Exception e) {
+                    log.warn("핫 게시글 랭킹 재구축 실패: {}", e.getMessage());
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rebuildScheduled.set(false);
+        }
+    }
+
+    // 재구축 도중 서버가 종료되어도 임시 키가 남지 않도록 만료 시간 설정
+    private void writeSortedSet(String key, Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (!tuples.isEmpty()) {
+            redisTemplate.opsForZSet().add(key, tuples);
+            redisTemplate.expire(key, REBUILD_LOCK_TTL);
+        }
+    }
+
+    private void updateDecay(String postId, double netScore, long createdSeconds) {
+        if (netScore >= HOT_MIN_SCORE) {
+            redisTemplate.opsForZSet().add(DECAY_KEY, postId, decayScore(netScore, createdSeconds));
+        } else {
+            redisTemplate.opsForZSet().remove(DECAY_KEY, postId);
+        }
+    }
+
+    private long epochSeconds(LocalDateTime createdAt) {
+        LocalDateTime created = createdAt != null ? createdAt : LocalDateTime.now();
+        return created.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    // Reddit hot 점수: log10(네트 스코어) + (작성 시각 / 45000초)
+    private double decayScore(double netScore, long createdSeconds) {
+        double order = Math.log10(Math.max(Math.abs(netScore), 1));
+        double sign = Math.signum(netScore);
+        return sign * order + (createdSeconds - DECAY_EPOCH_SECONDS) / DECAY_SECONDS_PER_ORDER;
     }
 }
@@ -6,37 +6,78 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 블랙리스트 서비스
- * 로그아웃된 토큰을 Redis에 저장하여 무효화
+ * 로그아웃된 토큰을 Redis Sorted Set 하나에 저장하여 무효화 (member: 토큰 SHA-256 해시, score: 토큰 만료 시각)
+ * - 무효화된 토큰 해시를 서버 메모리에도 보관하고 Redis Pub/Sub으로 다른 서버와 동기화하여
+ *   일반 요청은 Redis 조회 없이 메모리에서만 확인
+ * - Pub/Sub 메시지 유실에 대비해 주기적으로 만료되지 않은 항목만 다시 읽어서 맞춤 (ZRANGEBYSCORE, 키 SCAN 없음)
+ * - 동기화가 max-staleness 이상 실패하고 있으면 메모리를 믿지 않고 Redis에서 직접 확인
+ *   (Redis도 확인할 수 없으면 무효화된 토큰으로 처리)
  */
 @Slf4j
 @Service
-public class JwtBlacklistService {
+public class JwtBlacklistService implements MessageListener {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate redisTemplate;
     private final Key key;
+    private final long maxStalenessMs;
 
-    private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    private static final String BLACKLIST_KEY = "jwt:blacklist";
+
+    // 이전 형식 (토큰별 키: jwt:blacklist:{토큰 해시 또는 토큰 전체}) 및 한 번만 옮기기 위한 표시/잠금
+    private static final String LEGACY_PREFIX = "jwt:blacklist:";
+    private static final String LEGACY_MIGRATED_KEY = "jwt:blacklist-legacy-migrated";
+    private static final String LEGACY_MIGRATION_LOCK_KEY = "jwt:blacklist-legacy-migrating";
+    private static final Duration LEGACY_MIGRATION_LOCK_TTL = Duration.ofMinutes(10);
+
+    // 블랙리스트 추가 알림 채널 (메시지: 토큰 해시:만료 시각)
+    public static final String BLACKLIST_CHANNEL = "jwt-blacklist";
+
+    // 무효화된 토큰 해시 -> 토큰 만료 시각 (epoch ms)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    // 마지막으로 Redis와 동기화한 시각 (0이면 아직 동기화 전)
+    private volatile long lastSyncedAt = 0;
+
+    // 이전 형식 키를 모두 옮겼는지 여부 (그 전에는 Redis에서 확인할 때 이전 형식 키도 확인)
+    private volatile boolean legacyMigrated = false;
 
     public JwtBlacklistService(
-            RedisTemplate<String, Object> redisTemplate,
-            @Value("${jwt.secret}") String secretKey) {
+            StringRedisTemplate redisTemplate,
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.blacklist.max-staleness-ms:180000}") long maxStalenessMs) {
         this.redisTemplate = redisTemplate;
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.maxStalenessMs = maxStalenessMs;
     }
 
     /**
-     * 토큰을 블랙리스트에 추가
-     * TTL = 토큰의 남은 유효시간
+     * 토큰을 블랙리스트에 추가 (토큰 만료 시각까지 유지)
      */
     public void blacklistToken(String token) {
         try {
@@ -50,8 +91,10 @@ public class JwtBlacklistService {
             long remainingTime = expiration.getTime() - System.currentTimeMillis();
 
             if (remainingTime > 0) {
-                String tokenKey = BLACKLIST_PREFIX + token;
-                redisTemplate.opsForValue().set(tokenKey, "logout", Duration.ofMillis(remainingTime));
+                String tokenHash = hash(token);
+                redisTemplate.opsForZSet().add(BLACKLIST_KEY, tokenHash, expiration.getTime());
+                revokedTokens.put(tokenHash, expiration.getTime());
+                redisTemplate.convertAndSend(BLACKLIST_CHANNEL, tokenHash + ":" + expiration.getTime());
                 log.info("JWT 블랙리스트에 추가됨: 남은 시간={}분", remainingTime / 60000);
             }
         } catch (Exception e) {
@@ -61,9 +104,134 @@ public class JwtBlacklistService {
 
     /**
      * 토큰이 블랙리스트에 있는지 확인
+     * 최근(max-staleness 이내)에 동기화했다면 메모리에서만 확인 (Redis 호출 없음)
      */
     public boolean isBlacklisted(String token) {
-        String tokenKey = BLACKLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey));
+        long now = System.currentTimeMillis();
+        String tokenHash = hash(token);
+        Long expiresAt = revokedTokens.get(tokenHash);
+        if (expiresAt != null && expiresAt > now) {
+            return true;
+        }
+        if (legacyMigrated && now - lastSyncedAt <= maxStalenessMs) {
+            return false;
+        }
+        // 아직 동기화 전이거나 오랫동안 동기화하지 못했으면 Redis에서 직접 확인
+        return isBlacklistedInRedis(token, tokenHash, now);
+    }
+
+    /**
+     * 다른 서버에서 추가한 블랙리스트 반영 (Redis Pub/Sub)
+     */
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            // 만료 시각이 없는 이전 형식 메시지는 토큰 최대 유효시간(24시간)까지 보관
+            revokedTokens.put(body, System.currentTimeMillis() + Duration.ofDays(1).toMillis());
+            return;
+        }
+        revokedTokens.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+    }
+
+    /**
+     * Redis 블랙리스트와 동기화
+     * Pub/Sub 메시지를 놓친 경우를 보정하고, 만료된 항목은 Redis와 메모리에서 모두 제거
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.resync-interval-ms:60000}")
+    public void resync() {
+        try {
+            if (!legacyMigrated) {
+                migrateLegacyKeys();
+            }
+
+            long startedAt = System.currentTimeMillis();
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            zSet.removeRangeByScore(BLACKLIST_KEY, Double.NEGATIVE_INFINITY, startedAt);
+
+            Set<ZSetOperations.TypedTuple<String>> current = zSet.rangeByScoreWithScores(
+                    BLACKLIST_KEY, startedAt, Double.POSITIVE_INFINITY);
+            if (current != null) {
+                for (ZSetOperations.TypedTuple<String> entry : current) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        revokedTokens.put(entry.getValue(), entry.getScore().longValue());
+                    }
+                }
+            }
+            revokedTokens.values().removeIf(expiresAt -> expiresAt <= startedAt);
+
+            lastSyncedAt = startedAt;
+            log.debug("JWT 블랙리스트 동기화 완료: {} 건", revokedTokens.size());
+        } catch (Exception e) {
+            log.warn("JWT 블랙리스트 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isBlacklistedInRedis(String token, String tokenHash, long now) {
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(BLACKLIST_KEY, tokenHash);
+            if (expiresAt != null && expiresAt > now) {
+                return true;
+            }
+            if (!legacyMigrated) {
+                return Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_PREFIX + tokenHash))
+                        || Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_PREFIX + token));
+            }
+            return false;
+        } catch (Exception e) {
+            // 무효화 여부를 확인할 수 없으면 받아들이지 않음 (fail-closed)
+            log.warn("JWT 블랙리스트 확인 실패, 무효화된 토큰으로 처리: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 이전 형식(토큰별 키)의 블랙리스트를 Sorted Set으로 옮김
+     * 한 서버에서 한 번만 키 전체를 SCAN 하고, 끝나면 표시를 남겨 다른 서버는 건너뜀
+     * (이전 형식 키는 토큰 만료와 함께 사라지므로 삭제하지 않음)
+     */
+    private void migrateLegacyKeys() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_MIGRATED_KEY))) {
+            legacyMigrated = true;
+            return;
+        }
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(LEGACY_MIGRATION_LOCK_KEY, "1", LEGACY_MIGRATION_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            // 다른 서버가 옮기는 중 (끝날 때까지 Redis 확인 시 이전 형식 키도 확인)
+            return;
+        }
+
+        int migrated = 0;
+        long now = System.currentTimeMillis();
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String legacyKey = cursor.next();
+                Long ttlMs = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+                if (ttlMs == null || ttlMs <= 0) {
+                    continue;
+                }
+                String suffix = legacyKey.substring(LEGACY_PREFIX.length());
+                String tokenHash = suffix.indexOf('.') >= 0 ? hash(suffix) : suffix;
+                redisTemplate.opsForZSet().add(BLACKLIST_KEY, tokenHash, now + ttlMs);
+                migrated++;
+            }
+        }
+
+        redisTemplate.opsForValue().set(LEGACY_MIGRATED_KEY, "1");
+        legacyMigrated = true;
+        log.info("이전 형식 JWT 블랙리스트 이동 완료: {} 건", migrated);
+    }
+
+    // 토큰 SHA-256 해시 (URL-safe Base64, 43자)
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 }
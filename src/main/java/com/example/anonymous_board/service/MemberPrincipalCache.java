@@ -0,0 +1,120 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.MemberPrincipal;
+import com.example.anonymous_board.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 사용자 캐시
+ * JWT 필터/WebSocket 인증 시 매 요청마다 DB를 조회하지 않도록 이메일별 사용자 정보를 짧은 시간 보관
+ * - 엔티티 대신 읽기 전용 스냅샷(MemberPrincipal)을 보관 (비밀번호 해시 제외)
+ * - 닉네임/프로필/정지/탈퇴 등 사용자 정보 변경 시 커밋 후 제거하고 Redis Pub/Sub으로 다른 서버에도 알림
+ */
+@Slf4j
+@Service
+public class MemberPrincipalCache implements MessageListener {
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+
+    // 사용자 정보 변경 알림 채널 (메시지: 사용자 ID)
+    public static final String EVICT_CHANNEL = "member-principal-evict";
+
+    // 만료된 항목 정리 기준 크기
+    private static final int CLEANUP_THRESHOLD = 10000;
+
+    private final Map<String, CachedMember> cache = new ConcurrentHashMap<>();
+
+    private record CachedMember(MemberPrincipal principal, long expiresAt) {
+    }
+
+    public MemberPrincipalCache(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${auth.principal-cache-ttl-ms:30000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 이메일로 인증 사용자 조회 (캐시에 없거나 만료되었으면 DB 조회)
+     *
+     * @return 사용자 정보, 없으면 null
+     */
+    public MemberPrincipal getByEmail(String email) {
+        long now = System.currentTimeMillis();
+        CachedMember cached = cache.get(email);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.principal();
+        }
+
+        MemberPrincipal principal = userRepository.findByEmail(email).map(MemberPrincipal::from).orElse(null);
+        if (principal == null) {
+            cache.remove(email);
+            return null;
+        }
+
+        if (cache.size() >= CLEANUP_THRESHOLD) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        cache.put(email, new CachedMember(principal, now + ttlMillis));
+        return principal;
+    }
+
+    /**
+     * 사용자 정보 변경 시 캐시 제거 (트랜잭션 중이면 커밋 후 제거)
+     */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndPublish(userId);
+                }
+            });
+        } else {
+            evictAndPublish(userId);
+        }
+    }
+
+    /**
+     * 다른 서버에서 변경된 사용자 캐시 제거 (Redis Pub/Sub)
+     */
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        try {
+            evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 캐시 제거 메시지: {}", e.getMessage());
+        }
+    }
+
+    private void evictAndPublish(Long userId) {
+        evictLocal(userId);
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // 다른 서버는 TTL이 지나면 갱신됨
+            log.warn("사용자 캐시 제거 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        cache.values().removeIf(entry -> userId.equals(entry.principal().id()));
+    }
+}
@@ -5,6 +5,7 @@ import com.example.anonymous_board.domain.Message;
 import com.example.anonymous_board.domain.UserConversation;
 import com.example.anonymous_board.dto.ConversationDto;
 import com.example.anonymous_board.dto.ConversationSummaryDto;
+import com.example.anonymous_board.dto.KeysetCursor;
 import com.example.anonymous_board.dto.MessageCreateRequest;
 import com.example.anonymous_board.dto.MessageDto;
 import com.example.anonymous_board.dto.ReadStatusDto;
@@ -13,14 +14,19 @@ import com.example.anonymous_board.repository.UserConversationRepository;
 import com.example.anonymous_board.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -33,117 +39,132 @@ public class MessageService {
         private final MessageRepository messageRepository;
         private final UserRepository userRepository;
         private final UserConversationRepository userConversationRepository;
-        private final RedisTemplate<String, Object> redisTemplate;
+        private final ApplicationEventPublisher eventPublisher;
+        private final ChatMessageWriter chatMessageWriter;
 
-        // 대화 찾기
-        @Transactional
-        public ConversationDto getConversation(Long user1Id, Long user2Id) {
-                log.info("========== getConversation 호출 ==========");
-                log.info("user1Id (요청자): {}", user1Id);
-                log.info("user2Id (상대방): {}", user2Id);
+        // 대화 내역 한 번에 조회할 최대 메시지 수
+        private static final int MAX_CONVERSATION_LIMIT = 100;
 
+        // 대화 찾기 (최신 메시지부터 limit 개씩, before 커서가 있으면 그 이전 메시지)
+        @Transactional
+        public ConversationDto getConversation(Long user1Id, Long user2Id, String before, int limit) {
                 Member user1 = userRepository.findById(user1Id)
                                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
                 Member user2 = userRepository.findById(user2Id)
                                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
 
-                List<Message> messages = messageRepository.findConversation(user1, user2);
-                log.info("전체 메시지 개수: {}", messages.size());
-
-                // user1이 받은 메시지 중 읽지 않은 메시지 수집 및 읽음 처리
-                List<Long> readMessageIds = new ArrayList<>();
-                messages.stream()
-                                .filter(msg -> msg.getReceiver().getId().equals(user1Id))
-                                .filter(msg -> msg.getReadAt() == null)
-                                .forEach(msg -> {
-                                        msg.markAsRead();
-                                        readMessageIds.add(msg.getId());
-                                });
+                int pageSize = Math.min(Math.max(limit, 1), MAX_CONVERSATION_LIMIT);
+                // 방향별로 pageSize + 1개씩 조회 후 병합 (다음 페이지 존재 여부 확인용)
+                Pageable pageable = PageRequest.of(0, pageSize + 1);
 
-                // 읽음 처리한 메시지가 있으면 Redis로 이벤트 발행
-                if (!readMessageIds.isEmpty()) {
-                        log.info("========== 읽음 상태 이벤트 발행 ==========");
-                        log.info("읽은 메시지 개수: {}", readMessageIds.size());
-                        log.info("메시지 ID 목록: {}", readMessageIds);
-                        log.info("발신자 ID (알림 받을 사람): {}", user2Id);
-                        log.info("수신자 ID (읽은 사람): {}", user1Id);
-
-                        ReadStatusDto readStatus = new ReadStatusDto();
-                        readStatus.setSenderId(user2Id); // 발신자에게 알림
-                        readStatus.setReceiverId(user1Id); // 읽은 사람
-                        readStatus.setMessageIds(readMessageIds);
-
-                        redisTemplate.convertAndSend("chat", readStatus);
-                        log.info("✅ Redis로 읽음 상태 발행 완료");
+                List<Message> candidates = new ArrayList<>();
+                if (before == null || before.isBlank()) {
+                        candidates.addAll(messageRepository.findLatestBetween(user1Id, user2Id, pageable));
+                        candidates.addAll(messageRepository.findLatestBetween(user2Id, user1Id, pageable));
                 } else {
-                        log.info("읽을 메시지 없음 (모두 이미 읽음)");
+                        KeysetCursor cursor = KeysetCursor.decode(before);
+                        candidates.addAll(messageRepository.findBetweenBefore(user1Id, user2Id,
+                                        cursor.getCreatedAt(), cursor.getId(), pageable));
+                        candidates.addAll(messageRepository.findBetweenBefore(user2Id, user1Id,
+                                        cursor.getCreatedAt(), cursor.getId(), pageable));
+                }
+
+                // 최신순 정렬 후 pageSize개만 사용
+                candidates.sort(Comparator.comparing(Message::getCreatedAt)
+                                .thenComparing(Message::getId)
+                                .reversed());
+                boolean hasMore = candidates.size() > pageSize;
+                List<Message> messages = new ArrayList<>(candidates.subList(0, Math.min(pageSize, candidates.size())));
+
+                // 다음(이전 메시지) 커서는 이번 페이지의 가장 오래된 메시지
+                String nextCursor = hasMore
+                                ? new KeysetCursor(messages.get(messages.size() - 1).getCreatedAt(),
+                                                messages.get(messages.size() - 1).getId()).encode()
+                                : null;
+
+                // 화면에는 오래된 순으로 표시
+                Collections.reverse(messages);
+
+                // 최신 페이지를 열었을 때만 user1이 받은 마지막 메시지까지 읽음 위치 이동 (UPDATE 한 번)
+                if (before == null || before.isBlank()) {
+                        messages.stream()
+                                        .filter(msg -> msg.getReceiver().getId().equals(user1Id))
+                                        .map(Message::getId)
+                                        .max(Long::compare)
+                                        .ifPresent(lastReceivedId -> advanceReadWatermark(user1, user2, lastReceivedId));
                 }
 
+                // 읽음 위치로 메시지의 읽음 여부 표시
+                Optional<UserConversation> myConversation = userConversationRepository
+                                .findByUserAndOtherUser(user1, user2);
+                Optional<UserConversation> otherUserConversation = userConversationRepository
+                                .findByUserAndOtherUser(user2, user1);
+
                 List<MessageDto> messageDtos = messages.stream()
-                                .map(MessageDto::from)
+                                .map(msg -> {
+                                        MessageDto dto = MessageDto.from(msg);
+                                        Optional<UserConversation> readerConversation = msg.getReceiver().getId()
+                                                        .equals(user1Id) ? myConversation : otherUserConversation;
+                                        if (readerConversation.map(uc -> uc.hasRead(msg.getId())).orElse(false)) {
+                                                dto.setRead(true);
+                                        }
+                                        return dto;
+                                })
                                 .collect(Collectors.toList());
 
-                boolean otherUserHasLeft = userConversationRepository.findByUserAndOtherUser(user2, user1)
+                boolean otherUserHasLeft = otherUserConversation
                                 .map(UserConversation::isHidden)
                                 .orElse(false);
 
                 return ConversationDto.builder()
                                 .messages(messageDtos)
                                 .otherUserHasLeft(otherUserHasLeft)
+                                .hasMore(hasMore)
+                                .nextCursor(nextCursor)
                                 .build();
         }
 
-        // 메시지 보내기
-        @Transactional
+        // 메시지 보내기 (REST - 저장 완료 후 응답)
+        @Transactional(propagation = Propagation.NOT_SUPPORTED) // 저장은 ChatMessageWriter의 트랜잭션에서 처리
         public MessageDto sendMessage(Long senderId, MessageCreateRequest request) {
                 Member sender = userRepository.findById(senderId)
                                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-                Member receiver = userRepository.findById(request.getReceiverId())
-                                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-
-                Message message = Message.builder()
-                                .sender(sender)
-                                .receiver(receiver)
-                                .content(request.getContent())
-                                .build();
 
-                Message savedMessage = messageRepository.save(message);
-
-                unhideConversation(sender, receiver);
-                unhideConversation(receiver, sender);
-
-                return MessageDto.from(savedMessage);
+                return sendMessage(sender, request);
         }
 
-        // 대화 목록 찾기
-        public List<ConversationSummaryDto> getConversationSummaries(Long userId) {
-                Member currentUser = userRepository.findById(userId)
-                                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+        /**
+         * 메시지 보내기 (WebSocket - 메시지 행 커밋 후 반환)
+         * 대화방 마지막 메시지/읽지 않은 수 갱신은 ChatMessageWriter가 모아서 처리
+         *
+         * @param sender 인증된 사용자 (WebSocket 세션의 Principal)
+         */
+        @Transactional(propagation = Propagation.NOT_SUPPORTED) // 시퀀스 발급은 읽기 전용 트랜잭션에서 불가
+        public MessageDto sendMessage(Member sender, MessageCreateRequest request) {
+                MessageDto message = createMessage(sender, request);
+                chatMessageWriter.save(message);
+                return message;
+        }
 
-                List<Message> allMessages = messageRepository.findBySenderOrReceiverOrderByCreatedAtDesc(currentUser,
-                                currentUser);
+        // 메시지 검증 및 ID 발급
+        private MessageDto createMessage(Member sender, MessageCreateRequest request) {
+                if (request.getContent() == null || request.getContent().isBlank()) {
+                        throw new IllegalArgumentException("메시지 내용을 입력해주세요.");
+                }
+                if (request.getReceiverId() == null || !userRepository.existsById(request.getReceiverId())) {
+                        throw new IllegalArgumentException("유저를 찾을 수 없습니다.");
+                }
+                return MessageDto.of(chatMessageWriter.nextId(), sender, request.getReceiverId(),
+                                request.getContent(), LocalDateTime.now());
+        }
 
-                Map<Member, List<Message>> conversations = allMessages.stream()
-                                .collect(Collectors.groupingBy(message -> {
-                                        if (message.getSender().equals(currentUser)) {
-                                                return message.getReceiver();
-                                        } else {
-                                                return message.getSender();
-                                        }
-                                }));
+        // 대화 목록 찾기 (대화방에 유지된 마지막 메시지/읽지 않은 메시지 수로 한 번에 조회)
+        public Page<ConversationSummaryDto> getConversationSummaries(Long userId, int page, int size) {
+                Pageable pageable = PageRequest.of(page, size);
 
-                return conversations.entrySet().stream()
-                                .filter(entry -> {
-                                        Optional<UserConversation> userConversation = userConversationRepository
-                                                        .findByUserAndOtherUser(currentUser, entry.getKey());
-                                        return userConversation.map(uc -> !uc.isHidden()).orElse(true);
-                                })
-                                .map(entry -> {
-                                        Member otherUser = entry.getKey();
-                                        List<Message> messages = entry.getValue();
-                                        Message lastMessage = messages.stream()
-                                                        .max(Comparator.comparing(Message::getCreatedAt))
-                                                        .orElse(null);
+                return userConversationRepository.findInbox(userId, pageable)
+                                .map(conversation -> {
+                                        Member otherUser = conversation.getOtherUser();
 
                                         String profileImage = otherUser.getProfileImage();
                                         if (profileImage != null && !profileImage.startsWith("/profiles/")
@@ -155,18 +176,12 @@ public class MessageService {
                                                         .otherUserId(otherUser.getId())
                                                         .otherUserNickname(otherUser.getNickname())
                                                         .profileImage(profileImage)
-                                                        .lastMessageContent(
-                                                                        lastMessage != null ? lastMessage.getContent()
-                                                                                        : "대화 없음")
-                                                        .lastMessageTime(
-                                                                        lastMessage != null ? lastMessage.getCreatedAt()
-                                                                                        : null)
-                                                        .hasUnreadMessages(false)
+                                                        .lastMessageContent(conversation.getLastMessagePreview())
+                                                        .lastMessageTime(conversation.getLastMessageAt())
+                                                        .hasUnreadMessages(conversation.getUnreadCount() > 0)
+                                                        .unreadCount(conversation.getUnreadCount())
                                                         .build();
-                                })
-                                .sorted(Comparator.comparing(ConversationSummaryDto::getLastMessageTime,
-                                                Comparator.nullsLast(Comparator.reverseOrder())))
-                                .collect(Collectors.toList());
+                                });
         }
 
         // 대화 나가기
@@ -184,18 +199,7 @@ public class MessageService {
                 userConversationRepository.save(userConversation);
         }
 
-        // 대화 복구
-        private void unhideConversation(Member user, Member otherUser) {
-                userConversationRepository.findByUserAndOtherUser(user, otherUser)
-                                .ifPresent(conversation -> {
-                                        if (conversation.isHidden()) {
-                                                conversation.unhide();
-                                                userConversationRepository.save(conversation);
-                                        }
-                                });
-        }
-
-        // 개별 메시지 읽음 처리
+        // 메시지 읽음 처리 (해당 메시지까지 읽음 위치 이동)
         @Transactional
         public void markMessageAsRead(Long messageId, Long userId) {
                 Message message = messageRepository.findById(messageId)
@@ -206,23 +210,35 @@ public class MessageService {
                         throw new IllegalArgumentException("수신자만 읽음 처리할 수 있습니다.");
                 }
 
-                // 이미 읽은 메시지는 처리하지 않음
-                if (message.getReadAt() != null) {
-                        log.info("이미 읽은 메시지: messageId={}", messageId);
+                advanceReadWatermark(message.getReceiver(), message.getSender(), messageId);
+        }
+
+        /**
+         * 읽음 위치(watermark) 이동
+         * 읽은 메시지마다 UPDATE 하지 않고 대화방의 lastReadMessageId와 읽지 않은 수를 조건부 UPDATE 한 번으로 이동하며,
+         * 실제로 이동한 경우에만 읽음 이벤트를 한 번 발행 (커밋 후) (이미 읽은 위치면 아무 것도 하지 않음)
+         * 대화방은 메시지 저장 트랜잭션에서 함께 만들어지므로 (이전 대화는 V3 마이그레이션에서 생성) 따로 생성하지 않음
+         *
+         * @param reader        메시지를 읽은 사람
+         * @param sender        메시지를 보낸 사람 (읽음 알림을 받을 사람)
+         * @param lastMessageId 읽은 마지막 메시지 ID
+         */
+        private void advanceReadWatermark(Member reader, Member sender, Long lastMessageId) {
+                int updated = userConversationRepository.advanceLastReadMessageId(
+                                reader.getId(), sender.getId(), lastMessageId);
+                if (updated == 0) {
+                        // 이미 같은 위치이거나 더 앞서 있음
                         return;
                 }
 
-                // 읽음 처리
-                message.markAsRead();
-                log.info("메시지 읽음 처리: messageId={}", messageId);
-
-                // Redis로 읽음 상태 이벤트 발행
                 ReadStatusDto readStatus = new ReadStatusDto();
-                readStatus.setSenderId(message.getSender().getId()); // 발신자에게 알림
-                readStatus.setReceiverId(userId); // 읽은 사람
-                readStatus.setMessageIds(List.of(messageId));
-
-                redisTemplate.convertAndSend("chat", readStatus);
-                log.info("✅ 읽음 상태 이벤트 발행: messageId={}, senderId={}", messageId, message.getSender().getId());
+                readStatus.setSenderId(sender.getId()); // 발신자에게 알림
+                readStatus.setReceiverId(reader.getId()); // 읽은 사람
+                readStatus.setLastReadMessageId(lastMessageId);
+
+                // 커밋된 경우에만 ChatEventRelay가 발행 (트랜잭션 안에서 Redis 호출 없음)
+                eventPublisher.publishEvent(readStatus);
+                log.info("읽음 위치 이동: readerId={}, senderId={}, lastReadMessageId={}",
+                                reader.getId(), sender.getId(), lastMessageId);
         }
 }
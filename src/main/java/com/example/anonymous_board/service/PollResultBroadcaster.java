@@ -0,0 +1,109 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.dto.PollResultDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투표 결과 실시간 전달
+ * - 투표 커밋 후 결과가 바뀐 투표만 표시해 두고, 주기적으로(기본 0.3초) 한 번의 쿼리로 집계해서 발행
+ *   (투표가 몰려도 투표별로 초당 몇 번만 전송)
+ * - Redis 채널(poll:results:{postId})로 발행하면 모든 서버의 RedisMessageSubscriber가
+ *   /topic/poll.{postId} 구독자에게 전달
+ */
+@Slf4j
+@Service
+public class PollResultBroadcaster {
+
+    // 투표 결과 채널 (모든 서버가 패턴으로 구독)
+    public static final String RESULT_CHANNEL_PREFIX = "poll:results:";
+
+    private static final String RESULT_SQL = "SELECT p.post_id, o.poll_id, o.id, o.vote_count"
+            + " FROM poll_option o JOIN poll p ON p.id = o.poll_id"
+            + " WHERE o.poll_id IN (%s) ORDER BY o.poll_id, o.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 결과가 바뀌어 아직 전달하지 않은 투표 ID
+    private final Set<Long> changedPolls = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 투표 결과 변경 이벤트 (PollVoteService)
+     */
+    public record PollChanged(Long pollId) {
+    }
+
+    public PollResultBroadcaster(JdbcTemplate jdbcTemplate, StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // 투표 커밋 후 (롤백된 투표는 전달하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPollChanged(PollChanged event) {
+        changedPolls.add(event.pollId());
+    }
+
+    @Scheduled(fixedDelayString = "${poll.push-interval-ms:300}")
+    public void flush() {
+        if (changedPolls.isEmpty()) {
+            return;
+        }
+        // 꺼낸 뒤에 들어온 변경은 다음 주기에 전달
+        List<Long> pollIds = new ArrayList<>(changedPolls);
+        changedPolls.removeAll(pollIds);
+
+        try {
+            for (PollResultDto result : loadResults(pollIds)) {
+                redisTemplate.convertAndSend(RESULT_CHANNEL_PREFIX + result.getPostId(),
+                        objectMapper.writeValueAsString(result));
+            }
+        } catch (Exception e) {
+            // 놓친 결과는 다음 투표 때 또는 페이지를 다시 불러올 때 반영됨
+            log.warn("투표 결과 발행 실패: {} 건, {}", pollIds.size(), e.getMessage());
+        }
+    }
+
+    // 투표별 선택지 투표 수를 한 번에 조회하여 비율 계산
+    private List<PollResultDto> loadResults(List<Long> pollIds) {
+        Map<Long, PollResultDto> results = new LinkedHashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(pollIds.size(), "?"));
+        jdbcTemplate.query(String.format(RESULT_SQL, placeholders), (RowCallbackHandler) rs -> {
+            PollResultDto result = results.computeIfAbsent(rs.getLong(2), pollId -> {
+                PollResultDto dto = new PollResultDto();
+                dto.setPollId(pollId);
+                return dto;
+            });
+            result.setPostId(rs.getLong(1));
+            result.getOptions().add(new PollResultDto.OptionResult(rs.getLong(3), rs.getInt(4), 0));
+        }, pollIds.toArray());
+
+        for (PollResultDto result : results.values()) {
+            long totalVotes = result.getOptions().stream().mapToLong(PollResultDto.OptionResult::getVoteCount).sum();
+            result.setTotalVotes(totalVotes);
+            for (PollResultDto.OptionResult option : result.getOptions()) {
+                option.setVotePercentage(totalVotes > 0 ? (double) option.getVoteCount() / totalVotes * 100 : 0);
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.PollVote;
+import com.example.anonymous_board.repository.PollOptionRepository;
+import com.example.anonymous_board.repository.PollVoteRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 게시글 투표(설문) 참여 처리
+ * - 새 투표는 (poll, member) 유니크 제약을 이용한 조건부 INSERT, 선택 변경은 기존 항목을 조건으로 한 UPDATE로 처리하고
+ *   반영된 행 수로 변경 여부를 판단 (같은 사용자의 동시 요청에도 중복 투표 없음)
+ * - 선택지 투표 수는 UPDATE poll_option SET vote_count = vote_count + ? 형태로 원자적으로 반영
+ * - 결과가 바뀌면 PollResultBroadcaster가 커밋 후 실시간으로 전달
+ */
+@Service
+public class PollVoteService {
+
+    private final PollOptionRepository pollOptionRepository;
+    private final PollVoteRepository pollVoteRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityIdGenerator entityIdGenerator;
+
+    // PostgreSQL 여부 (처음 사용할 때 확인)
+    private volatile Boolean postgreSql;
+
+    // 이미 투표했으면 아무 것도 하지 않음 (PostgreSQL, 유니크 제약은 V4__poll_vote_unique 마이그레이션)
+    // ID는 엔티티의 시퀀스 생성기로 발급 (EntityIdGenerator)
+    private static final String UPSERT_POLL_VOTE_SQL = "INSERT INTO poll_vote (id, poll_id, user_id, option_id)"
+            + " VALUES (?, ?, ?, ?) ON CONFLICT (poll_id, user_id) DO NOTHING";
+    // 그 외 DB (H2 등, 동시에 INSERT하면 유니크 제약 위반으로 실패 -> 이미 투표한 것으로 처리)
+    private static final String INSERT_POLL_VOTE_IF_ABSENT_SQL = "INSERT INTO poll_vote (id, poll_id, user_id, option_id)"
+            + " SELECT ?, ?, ?, ? FROM (VALUES (1)) t"
+            + " WHERE NOT EXISTS (SELECT 1 FROM poll_vote WHERE poll_id = ? AND user_id = ?)";
+
+    // 같은 사용자의 동시 요청과 겹쳤을 때 다시 시도할 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    public PollVoteService(PollOptionRepository pollOptionRepository, PollVoteRepository pollVoteRepository,
+            JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher, EntityIdGenerator entityIdGenerator) {
+        this.pollOptionRepository = pollOptionRepository;
+        this.pollVoteRepository = pollVoteRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.entityIdGenerator = entityIdGenerator;
+    }
+
+    /**
+     * 투표 반영 (투표하지 않았으면 새 투표, 다른 항목에 투표했으면 변경, 같은 항목이면 그대로)
+     *
+     * @return 결과가 바뀌었는지 여부
+     */
+    @Transactional
+    public boolean vote(Long optionId, Long memberId) {
+        Long pollId = pollOptionRepository.findPollIdById(optionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표 항목입니다."));
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<Long> current = pollVoteRepository.findOptionId(pollId, memberId);
+
+            if (current.isPresent()) {
+                Long oldOptionId = current.get();
+                if (oldOptionId.equals(optionId)) {
+                    return false; // 이미 같은 항목에 투표함
+                }
+                if (pollVoteRepository.changeOption(pollId, memberId, oldOptionId, optionId) == 0) {
+                    continue; // 같은 사용자의 다른 요청이 먼저 변경함 -> 다시 판단
+                }
+                // 서로 반대로 바꾸는 요청끼리 교착되지 않도록 선택지 ID 순서로 갱신
+                if (oldOptionId < optionId) {
+                    pollOptionRepository.addVoteCount(oldOptionId, -1);
+                    pollOptionRepository.addVoteCount(optionId, 1);
+                } else {
+                    pollOptionRepository.addVoteCount(optionId, 1);
+                    pollOptionRepository.addVoteCount(oldOptionId, -1);
+                }
+            } else if (insertPollVote(pollId, memberId, optionId) > 0) {
+                pollOptionRepository.addVoteCount(optionId, 1);
+            } else {
+                continue; // 같은 사용자의 다른 요청이 먼저 투표함 -> 다시 판단
+            }
+
+            eventPublisher.publishEvent(new PollResultBroadcaster.PollChanged(pollId));
+            return true;
+        }
+        throw new IllegalStateException("투표 처리 중 충돌이 발생했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 아직 투표하지 않은 경우에만 INSERT (반영된 행 수 반환)
+    private int insertPollVote(Long pollId, Long memberId, Long optionId) {
+        if (postgreSql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgreSql = "PostgreSQL".equals(product);
+        }
+        Long id = entityIdGenerator.nextId(PollVote.class);
+        if (postgreSql) {
+            return jdbcTemplate.update(UPSERT_POLL_VOTE_SQL, id, pollId, memberId, optionId);
+        }
+        try {
+            return jdbcTemplate.update(INSERT_POLL_VOTE_IF_ABSENT_SQL, id, pollId, memberId, optionId,
+                    pollId, memberId);
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자의 다른 요청이 먼저 INSERT 함 (H2는 실패한 문장만 취소되고 트랜잭션은 계속 사용 가능)
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.anonymous_board.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색 서비스
+ * PostgreSQL에서는 pg_trgm GIN 인덱스로 부분 일치(한글 포함) 검색을 처리하고
+ * 제목/내용 유사도 순으로 정렬 (공지사항 제외 일반 게시글 대상)
+ * (확장과 인덱스는 스키마 마이그레이션 V2__post_search_trgm에서 생성, SchemaMigrationInitializer)
+ * 그 외 DB(H2 등)에서는 LIKE 검색 + 최신순으로 동작
+ */
+@Service
+public class PostSearchService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // pg_trgm 검색 사용 여부 (처음 검색할 때 DB 종류로 결정)
+    private volatile Boolean trigramEnabled;
+
+    // 하이라이트 스니펫 길이 (키워드 앞뒤로 보여줄 글자 수)
+    private static final int SNIPPET_CONTEXT = 40;
+
+    // 제목 유사도에 가중치를 두어 정렬
+    private static final String TRIGRAM_SEARCH_SQL = "SELECT p.id FROM post p"
+            + " WHERE p.is_announcement = false AND (p.title ILIKE ? ESCAPE '\\' OR p.content ILIKE ? ESCAPE '\\')"
+            + " ORDER BY word_similarity(?, p.title) * 2 + word_similarity(?, p.content) DESC,"
+            + " p.created_at DESC, p.id DESC LIMIT ? OFFSET ?";
+    private static final String TRIGRAM_COUNT_SQL = "SELECT COUNT(*) FROM post p"
+            + " WHERE p.is_announcement = false AND (p.title ILIKE ? ESCAPE '\\' OR p.content ILIKE ? ESCAPE '\\')";
+
+    private static final String LIKE_SEARCH_SQL = "SELECT p.id FROM post p"
+            + " WHERE p.is_announcement = false"
+            + " AND (LOWER(p.title) LIKE ? ESCAPE '\\' OR LOWER(p.content) LIKE ? ESCAPE '\\')"
+            + " ORDER BY p.created_at DESC, p.id DESC LIMIT ? OFFSET ?";
+    private static final String LIKE_COUNT_SQL = "SELECT COUNT(*) FROM post p"
+            + " WHERE p.is_announcement = false"
+            + " AND (LOWER(p.title) LIKE ? ESCAPE '\\' OR LOWER(p.content) LIKE ? ESCAPE '\\')";
+
+    public PostSearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 일반 게시글 검색 (관련도 순 게시글 ID 페이지)
+     */
+    public Page<Long> searchPostIds(String keyword, Pageable pageable) {
+        List<Long> ids;
+        Long total;
+
+        if (isTrigramEnabled()) {
+            String pattern = "%" + escapeLike(keyword) + "%";
+            ids = jdbcTemplate.queryForList(TRIGRAM_SEARCH_SQL, Long.class,
+                    pattern, pattern, keyword, keyword, pageable.getPageSize(), pageable.getOffset());
+            total = jdbcTemplate.queryForObject(TRIGRAM_COUNT_SQL, Long.class, pattern, pattern);
+        } else {
+            String pattern = "%" + escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%";
+            ids = jdbcTemplate.queryForList(LIKE_SEARCH_SQL, Long.class,
+                    pattern, pattern, pageable.getPageSize(), pageable.getOffset());
+            total = jdbcTemplate.queryForObject(LIKE_COUNT_SQL, Long.class, pattern, pattern);
+        }
+
+        return new PageImpl<>(ids, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * 검색 결과 하이라이트
+     * 키워드가 처음 등장하는 위치 주변만 잘라내고, HTML 이스케이프 후 키워드를 &lt;mark&gt;로 감쌈
+     * (키워드가 없으면 앞부분만 잘라서 이스케이프)
+     */
+    public static String highlight(String text, String keyword) {
+        if (text == null) {
+            return null;
+        }
+        if (keyword == null || keyword.isBlank()) {
+            return HtmlUtils.htmlEscape(text);
+        }
+
+        // 소문자 변환으로 길이가 달라지는 문자가 있으면 대소문자 구분하여 검색
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        if (lowerText.length() != text.length() || lowerKeyword.length() != keyword.length()) {
+            lowerText = text;
+            lowerKeyword = keyword;
+        }
+        int first = lowerText.indexOf(lowerKeyword);
+
+        int start = first < 0 ? 0 : Math.max(0, first - SNIPPET_CONTEXT);
+        int end = first < 0
+                ? Math.min(text.length(), SNIPPET_CONTEXT * 2)
+                : Math.min(text.length(), first + keyword.length() + SNIPPET_CONTEXT);
+
+        StringBuilder result = new StringBuilder();
+        if (start > 0) {
+            result.append("...");
+        }
+        int index = start;
+        while (index < end) {
+            int match = lowerText.indexOf(lowerKeyword, index);
+            if (match < 0 || match + keyword.length() > end) {
+                result.append(HtmlUtils.htmlEscape(text.substring(index, end)));
+                break;
+            }
+            result.append(HtmlUtils.htmlEscape(text.substring(index, match)))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(text.substring(match, match + keyword.length())))
+                    .append("</mark>");
+            index = match + keyword.length();
+        }
+        if (end < text.length()) {
+            result.append("...");
+        }
+        return result.toString();
+    }
+
+    // PostgreSQL이면 pg_trgm 사용 (마이그레이션이 실패하면 애플리케이션이 시작되지 않으므로 인덱스가 있음)
+    private boolean isTrigramEnabled() {
+        Boolean enabled = trigramEnabled;
+        if (enabled == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            enabled = "PostgreSQL".equals(product);
+            trigramEnabled = enabled;
+        }
+        return enabled;
+    }
+
+    // LIKE 패턴 특수문자 이스케이프
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -6,30 +6,31 @@ import com.example.anonymous_board.domain.Post;
 import com.example.anonymous_board.domain.PostImage;
 import com.example.anonymous_board.domain.Poll;
 import com.example.anonymous_board.domain.PollOption;
-import com.example.anonymous_board.domain.PollVote;
-import com.example.anonymous_board.domain.Vote;
 import com.example.anonymous_board.domain.VoteType;
+import com.example.anonymous_board.dto.KeysetCursor;
 import com.example.anonymous_board.dto.MyPostResponse;
 import com.example.anonymous_board.dto.PostCreateRequest;
 import com.example.anonymous_board.dto.PostResponse;
 import com.example.anonymous_board.dto.PostUpdateRequest;
-import com.example.anonymous_board.repository.PollOptionRepository;
-import com.example.anonymous_board.repository.PollVoteRepository;
 import com.example.anonymous_board.repository.PostRepository;
+import com.example.anonymous_board.repository.PostStatsRepository;
 import com.example.anonymous_board.repository.UserRepository;
-import com.example.anonymous_board.repository.VoteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -37,41 +38,24 @@ import java.util.Optional;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final VoteRepository voteRepository;
-    private final PollOptionRepository pollOptionRepository;
-    private final PollVoteRepository pollVoteRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final VoteCountService voteCountService;
+    private final PollVoteService pollVoteService;
     private final FileStorageService fileStorageService;
     private final HotPostsCacheService hotPostsCacheService;
     private final UserRepository userRepository;
+    private final PostSearchService postSearchService;
+    private final AnnouncementRegistry announcementRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 커서 기반 피드 한 번에 조회할 최대 게시글 수
+    private static final int MAX_FEED_LIMIT = 50;
 
     // 투표
     @Transactional
     public void votePoll(Long pollOptionId, Member member) {
-        PollOption option = pollOptionRepository.findById(pollOptionId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표 항목입니다."));
-
-        Poll poll = option.getPoll();
-
-        Optional<PollVote> existingVote = pollVoteRepository.findByPollAndMember(poll, member);
-
-        if (existingVote.isPresent()) {
-            PollVote vote = existingVote.get();
-            if (vote.getOption().getId().equals(pollOptionId)) {
-                return; // 이미 같은 항목에 투표함
-            }
-            // 기존 투표 취소 (카운트 감소)
-            PollOption oldOption = vote.getOption();
-            oldOption.setVoteCount(oldOption.getVoteCount() - 1);
-
-            // 새 항목 투표
-            vote.setOption(option);
-            option.setVoteCount(option.getVoteCount() + 1);
-        } else {
-            // 새 투표
-            PollVote vote = new PollVote(poll, member, option);
-            pollVoteRepository.save(vote);
-            option.setVoteCount(option.getVoteCount() + 1);
-        }
+        // 조건부 INSERT/UPDATE와 원자적 카운터로 처리 (PollVoteService)
+        pollVoteService.vote(pollOptionId, member.getId());
     }
 
     // 1. 게시글 생성
@@ -114,8 +98,9 @@ public class PostService {
             post.setBoardType(BoardType.FREE); // 잘못된 값이면 기본값 FREE
         }
 
-        // 게시글 저장
+        // 게시글 저장 (통계 행도 같은 트랜잭션에서 저장, 카운터는 이 행을 UPDATE)
         Post savedPost = postRepository.save(post);
+        postStatsRepository.save(savedPost.getStats());
 
         // 투표 생성
         if (request.getPollQuestion() != null && !request.getPollQuestion().isBlank() &&
@@ -147,6 +132,12 @@ public class PostService {
             }
         }
 
+        // 커밋 후 게시글 목록 캐시 비우기 (공지사항이면 공지사항 목록도 갱신)
+        eventPublisher.publishEvent(new FeedPageCache.FeedChanged(savedPost.getId()));
+        if (savedPost.isAnnouncement()) {
+            eventPublisher.publishEvent(new AnnouncementRegistry.AnnouncementsChanged(savedPost.getId()));
+        }
+
         return new PostResponse(savedPost, currentUser);
     }
 
@@ -155,84 +146,51 @@ public class PostService {
         return postRepository.findAll();
     }
 
-    // 2-1. 게시글 전체 조회 (정렬 및 페이지네이션)
+    // 2-1. 일반 게시글 전체 조회 (정렬 및 페이지네이션)
+    // 공지사항은 AnnouncementRegistry의 스냅샷을 첫 페이지 앞에 붙여서 응답 (첫 페이지는 공지사항 수만큼 줄여서 조회)
     public Page<Post> getAllPosts(int page, int size, String sortBy) {
-        // 공지사항 조회
-        List<Post> announcements = postRepository.findAnnouncements();
-
-        Pageable pageable;
-
-        // 첫 페이지에서 공지사항을 포함하는 경우, 일반 게시글 사이즈 조정
-        if (page == 0 && !announcements.isEmpty()) {
-            int adjustedSize = Math.max(1, size - announcements.size());
-            pageable = createPageable(page, adjustedSize, sortBy);
-        } else {
-            pageable = createPageable(page, size, sortBy);
-        }
-
-        Page<Post> regularPosts = postRepository.findNonAnnouncementPosts(pageable);
-
-        // 첫 페이지에만 공지사항을 포함
-        if (page == 0 && !announcements.isEmpty()) {
-            List<Post> combinedPosts = new java.util.ArrayList<>(announcements);
-            combinedPosts.addAll(regularPosts.getContent());
-
-            // 공지사항을 포함한 총 개수 계산
-            long totalElements = announcements.size() + regularPosts.getTotalElements();
-
-            return new org.springframework.data.domain.PageImpl<>(
-                    combinedPosts,
-                    PageRequest.of(page, size),
-                    totalElements);
-        }
-
-        return regularPosts;
+        Pageable pageable = createPageable(page, regularPageSize(page, size, null), sortBy);
+        return postRepository.findNonAnnouncementPosts(pageable);
     }
 
-    // 2-2. 게시판 타입별 게시글 조회 (정렬 및 페이지네이션)
+    // 2-2. 게시판 타입별 일반 게시글 조회 (정렬 및 페이지네이션)
     public Page<Post> getAllPostsByBoardType(int page, int size, String sortBy, BoardType boardType) {
-        // 해당 게시판의 공지사항 조회
-        List<Post> announcements = postRepository.findAnnouncementsByBoardType(boardType);
-
-        Pageable pageable;
-
-        // 첫 페이지에서 공지사항을 포함하는 경우, 일반 게시글 사이즈 조정
-        if (page == 0 && !announcements.isEmpty()) {
-            int adjustedSize = Math.max(1, size - announcements.size());
-            pageable = createPageable(page, adjustedSize, sortBy);
-        } else {
-            pageable = createPageable(page, size, sortBy);
-        }
-
-        Page<Post> regularPosts = postRepository.findNonAnnouncementPostsByBoardType(boardType, pageable);
+        Pageable pageable = createPageable(page, regularPageSize(page, size, boardType), sortBy);
+        return postRepository.findNonAnnouncementPostsByBoardType(boardType, pageable);
+    }
 
-        // 첫 페이지에만 공지사항을 포함
-        if (page == 0 && !announcements.isEmpty()) {
-            List<Post> combinedPosts = new java.util.ArrayList<>(announcements);
-            combinedPosts.addAll(regularPosts.getContent());
+    // 첫 페이지에서 공지사항을 포함하는 경우, 일반 게시글 사이즈 조정
+    private int regularPageSize(int page, int size, BoardType boardType) {
+        int announcementCount = page == 0 ? announcementRegistry.getAnnouncements(boardType).size() : 0;
+        return announcementCount > 0 ? Math.max(1, size - announcementCount) : size;
+    }
 
-            // 공지사항을 포함한 총 개수 계산
-            long totalElements = announcements.size() + regularPosts.getTotalElements();
+    // 2-3. 커서 기반 피드 조회 (최신순, 전체 개수 count 없이 다음 페이지 존재 여부만 확인)
+    public Slice<Post> getFeed(BoardType boardType, String after, int limit) {
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_FEED_LIMIT));
 
-            return new org.springframework.data.domain.PageImpl<>(
-                    combinedPosts,
-                    PageRequest.of(page, size),
-                    totalElements);
+        if (after == null || after.isBlank()) {
+            return boardType != null
+                    ? postRepository.findFeedByBoardType(boardType, pageable)
+                    : postRepository.findFeed(pageable);
         }
 
-        return regularPosts;
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        return boardType != null
+                ? postRepository.findFeedByBoardTypeAfter(boardType, cursor.getCreatedAt(), cursor.getId(), pageable)
+                : postRepository.findFeedAfter(cursor.getCreatedAt(), cursor.getId(), pageable);
     }
 
     private Pageable createPageable(int page, int size, String sortBy) {
         switch (sortBy) {
             case "likes":
-                return PageRequest.of(page, size, Sort.by("likes").descending());
+                return PageRequest.of(page, size, Sort.by("stats.likes").descending());
             case "dislikes":
-                return PageRequest.of(page, size, Sort.by("dislikes").descending());
+                return PageRequest.of(page, size, Sort.by("stats.dislikes").descending());
             case "viewCount":
-                return PageRequest.of(page, size, Sort.by("viewCount").descending());
+                return PageRequest.of(page, size, Sort.by("stats.viewCount").descending());
             case "comments":
-                return PageRequest.of(page, size, Sort.by("commentCount").descending());
+                return PageRequest.of(page, size, Sort.by("stats.commentCount").descending());
             case "latest":
             default:
                 return PageRequest.of(page, size, Sort.by("createdAt").descending());
@@ -246,14 +204,6 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
     }
 
-    // 4. 조회수 증가
-    @Transactional
-    public void incrementViewCount(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-        post.incrementViewCount();
-    }
-
     // 5. 게시글 수정
     @Transactional
     public void updatePost(Long id, PostUpdateRequest request, List<MultipartFile> imageFiles, Member currentUser) {
@@ -303,6 +253,10 @@ public class PostService {
             post.setPoll(poll);
             postRepository.save(post); // Poll 저장을 위해 다시 저장 (Cascade)
         }
+
+        if (post.isAnnouncement()) {
+            eventPublisher.publishEvent(new AnnouncementRegistry.AnnouncementsChanged(id));
+        }
     }
 
     // 6. 게시글 삭제
@@ -315,7 +269,15 @@ public class PostService {
             throw new IllegalArgumentException("본인이 작성한 게시글만 삭제할 수 있습니다.");
         }
 
+        // 통계 행은 게시글을 참조하므로 먼저 삭제
+        postStatsRepository.deleteById(id);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new HotPostsCacheService.PostRemoved(id));
+
+        eventPublisher.publishEvent(new FeedPageCache.FeedChanged(id));
+        if (post.isAnnouncement()) {
+            eventPublisher.publishEvent(new AnnouncementRegistry.AnnouncementsChanged(id));
+        }
     }
 
     // 7. 추천/비추천
@@ -328,70 +290,49 @@ public class PostService {
             throw new IllegalArgumentException("자신의 글에는 추천/비추천할 수 없습니다.");
         }
 
-        Optional<Vote> existingVote = voteRepository.findByMemberAndPost(currentUser, post);
+        // 투표 상태 변경과 추천/비추천 수 증감을 원자적으로 처리 (같은 타입이면 취소, 다른 타입이면 변경)
+        int netDelta = voteCountService.vote(postId, currentUser.getId(), voteType);
 
-        if (existingVote.isPresent()) {
-            Vote vote = existingVote.get();
-            // 이미 같은 타입으로 투표했다면, 투표 취소
-            if (vote.getVoteType() == voteType) {
-                if (voteType == VoteType.LIKE) {
-                    post.decrementLikes();
-                } else {
-                    post.decrementDislikes();
-                }
-                voteRepository.delete(vote);
-            } else { // 다른 타입으로 투표했다면, 투표 변경
-                if (voteType == VoteType.LIKE) {
-                    post.decrementDislikes();
-                    post.incrementLikes();
-                } else {
-                    post.incrementDislikes();
-                    post.decrementLikes();
-                }
-                vote.setVoteType(voteType);
-                voteRepository.save(vote);
-            }
-        } else { // 첫 투표
-            if (voteType == VoteType.LIKE) {
-                post.incrementLikes();
-            } else {
-                post.incrementDislikes();
-            }
-            voteRepository.save(new Vote(currentUser, post, voteType));
+        // 핫 게시글 랭킹(Sorted Set) 점수는 커밋 후 갱신 (HotPostsCacheService)
+        if (netDelta != 0) {
+            eventPublisher.publishEvent(new HotPostsCacheService.VoteApplied(postId, post.getCreatedAt(), netDelta));
         }
-
-        // 추천수 변경 시 핸 게시글 캐시 무효화
-        hotPostsCacheService.invalidateCache();
     }
 
-    // 8. 게시글 검색 (대소문자 구분 없음, 페이지네이션 지원)
+    // 8. 게시글 검색 (대소문자 구분 없음, 관련도 순, 페이지네이션 지원)
+    // 검색어가 포함된 공지사항은 AnnouncementRegistry에서 찾아 첫 페이지 앞에 붙여서 응답
     public Page<Post> searchPosts(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(page, size);
 
-        // 검색된 공지사항과 일반 게시글을 분리하여 조회
-        List<Post> announcements = postRepository.findAnnouncementsByKeyword(keyword);
-        Page<Post> regularPosts = postRepository.findNonAnnouncementsByKeyword(keyword, pageable);
+        // 일반 게시글은 검색 인덱스로 ID만 조회
+        Page<Long> regularPostIds = postSearchService.searchPostIds(keyword, pageable);
 
-        // 첫 페이지에만 공지사항을 포함
-        if (page == 0 && !announcements.isEmpty()) {
-            List<Post> combinedPosts = new java.util.ArrayList<>(announcements);
-            combinedPosts.addAll(regularPosts.getContent());
+        Map<Long, Post> postsById = postRepository.findAllWithMemberByIdIn(regularPostIds.getContent()).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
 
-            long totalElements = announcements.size() + regularPosts.getTotalElements();
+        // 관련도 순서대로 정렬
+        List<Post> regularPosts = regularPostIds.getContent().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
-            return new org.springframework.data.domain.PageImpl<>(
-                    combinedPosts,
-                    pageable,
-                    totalElements);
-        }
-
-        return regularPosts;
+        return new PageImpl<>(regularPosts, pageable, regularPostIds.getTotalElements());
     }
 
-    // 9. 핫 게시글 조회 (추천수 또는 비추천수 10 이상)
+    // 9. 핫 게시글 조회 (네트 스코어 10 이상, Redis 랭킹 순서 유지)
     public Page<Post> getHotPosts(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return postRepository.findHotPosts(10, pageable);
+        Page<Long> hotPostIds = hotPostsCacheService.getHotPostIds(page, size);
+
+        Map<Long, Post> postsById = postRepository.findAllWithMemberByIdIn(hotPostIds.getContent()).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+
+        // 랭킹 순서대로 정렬 (그 사이 삭제된 게시글은 제외)
+        List<Post> posts = hotPostIds.getContent().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(posts, hotPostIds.getPageable(), hotPostIds.getTotalElements());
     }
 
     public List<Post> getPostsByMember(Member member) {
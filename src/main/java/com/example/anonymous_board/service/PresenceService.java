@@ -0,0 +1,157 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.dto.PresenceDto;
+import com.example.anonymous_board.dto.TypingDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 접속 상태 / 입력 중 알림 서비스 (DB 사용 없음, 저장하지 않는 일시적인 신호)
+ * - 접속 상태: Redis ZSET(presence:online, 점수 = 마지막 확인 시각)과
+ *   사용자별 세션이 연결된 서버 수 Hash(presence:nodes)로 관리
+ *   서버는 주기적으로 연결된 사용자의 시각을 갱신(heartbeat)하며, 갱신이 끊긴 사용자(서버 장애 등)는 오프라인 처리
+ * - 접속/종료는 상태가 바뀔 때만 사용자별 접속 상태 채널로 발행
+ * - 입력 중 알림은 대화방별로 throttle-ms에 한 번만 대화 상대 채널로 발행
+ */
+@Slf4j
+@Service
+public class PresenceService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatEventPublisher chatEventPublisher;
+    private final long presenceTtlMs;
+    private final long typingThrottleMs;
+
+    private static final String ONLINE_KEY = "presence:online";
+    private static final String NODES_KEY = "presence:nodes";
+
+    // 서버 수를 줄이고 0이 되면 오프라인 처리 (원자적으로 처리하여 다른 서버의 접속과 겹쳐도 안전)
+    private static final RedisScript<Long> DISCONNECT_SCRIPT = new DefaultRedisScript<>(
+            "local n = redis.call('HINCRBY', KEYS[1], ARGV[1], -1)\n"
+                    + "if n <= 0 then\n"
+                    + "  redis.call('HDEL', KEYS[1], ARGV[1])\n"
+                    + "  return redis.call('ZREM', KEYS[2], ARGV[1])\n"
+                    + "end\n"
+                    + "return 0",
+            Long.class);
+
+    // 갱신이 끊긴 사용자 제거 (제거했으면 1)
+    private static final RedisScript<Long> EXPIRE_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[2], ARGV[1])\n"
+                    + "if score and tonumber(score) < tonumber(ARGV[2]) then\n"
+                    + "  redis.call('HDEL', KEYS[1], ARGV[1])\n"
+                    + "  return redis.call('ZREM', KEYS[2], ARGV[1])\n"
+                    + "end\n"
+                    + "return 0",
+            Long.class);
+
+    // 대화방(보낸 사람:받는 사람)별 마지막 입력 중 알림 시각
+    private final Map<String, Long> lastTypingSent = new ConcurrentHashMap<>();
+
+    public PresenceService(
+            StringRedisTemplate redisTemplate,
+            ChatEventPublisher chatEventPublisher,
+            @Value("${chat.presence.ttl-ms:90000}") long presenceTtlMs,
+            @Value("${chat.typing.throttle-ms:1000}") long typingThrottleMs) {
+        this.redisTemplate = redisTemplate;
+        this.chatEventPublisher = chatEventPublisher;
+        this.presenceTtlMs = presenceTtlMs;
+        this.typingThrottleMs = typingThrottleMs;
+    }
+
+    /**
+     * 이 서버에 사용자의 첫 세션이 연결됨
+     */
+    public void connected(Long userId) {
+        String member = userId.toString();
+        Long nodes = redisTemplate.opsForHash().increment(NODES_KEY, member, 1);
+        Boolean added = redisTemplate.opsForZSet().add(ONLINE_KEY, member, System.currentTimeMillis());
+        if (Long.valueOf(1).equals(nodes) || Boolean.TRUE.equals(added)) {
+            chatEventPublisher.publishPresence(new PresenceDto(userId, true));
+        }
+    }
+
+    /**
+     * 이 서버에서 사용자의 마지막 세션이 끊김 (다른 서버에도 세션이 없으면 오프라인)
+     */
+    public void disconnected(Long userId) {
+        Long removed = redisTemplate.execute(DISCONNECT_SCRIPT, List.of(NODES_KEY, ONLINE_KEY), userId.toString());
+        if (removed != null && removed == 1) {
+            chatEventPublisher.publishPresence(new PresenceDto(userId, false));
+        }
+    }
+
+    /**
+     * 이 서버에 연결된 사용자들의 마지막 확인 시각 갱신 (ZADD 한 번)
+     */
+    public void refresh(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        double now = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = userIds.stream()
+                .map(userId -> ZSetOperations.TypedTuple.of(userId.toString(), now))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(ONLINE_KEY, tuples);
+    }
+
+    public boolean isOnline(Long userId) {
+        Double lastSeen = redisTemplate.opsForZSet().score(ONLINE_KEY, userId.toString());
+        return lastSeen != null && lastSeen >= System.currentTimeMillis() - presenceTtlMs;
+    }
+
+    /**
+     * 입력 중 알림 (대화방별 throttle-ms에 한 번만 발행)
+     */
+    public void sendTyping(Long senderId, Long receiverId) {
+        long now = System.currentTimeMillis();
+        String key = senderId + ":" + receiverId;
+        Long last = lastTypingSent.get(key);
+        if (last != null && now - last < typingThrottleMs) {
+            return;
+        }
+        // 동시에 들어온 알림 중 하나만 발행
+        if (last == null ? lastTypingSent.putIfAbsent(key, now) != null : !lastTypingSent.replace(key, last, now)) {
+            return;
+        }
+        chatEventPublisher.publishTyping(new TypingDto(senderId, receiverId));
+    }
+
+    /**
+     * 갱신이 끊긴 사용자 오프라인 처리 및 오래된 입력 중 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.expire-interval-ms:30000}")
+    public void expireStale() {
+        long now = System.currentTimeMillis();
+        lastTypingSent.entrySet().removeIf(entry -> now - entry.getValue() > 60000);
+
+        try {
+            Set<String> stale = redisTemplate.opsForZSet().rangeByScore(ONLINE_KEY, 0, now - presenceTtlMs);
+            if (stale == null) {
+                return;
+            }
+            for (String member : stale) {
+                Long removed = redisTemplate.execute(EXPIRE_SCRIPT, List.of(NODES_KEY, ONLINE_KEY),
+                        member, String.valueOf(now - presenceTtlMs));
+                if (removed != null && removed == 1) {
+                    chatEventPublisher.publishPresence(new PresenceDto(Long.valueOf(member), false));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("접속 상태 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class ReportService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     // 게시글 신고
     @Transactional
@@ -117,6 +118,7 @@ public class ReportService {
 
             reportedUser.suspend(suspendUntil, request.getSuspensionReason());
             userRepository.save(reportedUser);
+            memberPrincipalCache.evict(reportedUser.getId());
         }
 
         reportRepository.save(report);
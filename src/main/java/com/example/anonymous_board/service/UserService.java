@@ -39,6 +39,7 @@ public class UserService implements UserDetailsService {
     private final MessageRepository messageRepository;
     private final UserConversationRepository userConversationRepository;
     private final ActiveTokenService activeTokenService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     // 생성자에서 @Lazy로 순환 참조 방지
     public UserService(
@@ -53,7 +54,8 @@ public class UserService implements UserDetailsService {
             PollVoteRepository pollVoteRepository,
             MessageRepository messageRepository,
             UserConversationRepository userConversationRepository,
-            ActiveTokenService activeTokenService) {
+            ActiveTokenService activeTokenService,
+            MemberPrincipalCache memberPrincipalCache) {
         this.userRepository = userRepository;
         this.redisEmailTokenService = redisEmailTokenService;
         this.passwordEncoder = passwordEncoder;
@@ -66,6 +68,7 @@ public class UserService implements UserDetailsService {
         this.messageRepository = messageRepository;
         this.userConversationRepository = userConversationRepository;
         this.activeTokenService = activeTokenService;
+        this.memberPrincipalCache = memberPrincipalCache;
     }
 
     /**
@@ -223,6 +226,7 @@ public class UserService implements UserDetailsService {
         Member user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         user.updateProfileImage(imageUrl);
+        memberPrincipalCache.evict(userId);
     }
 
     /**
@@ -242,6 +246,7 @@ public class UserService implements UserDetailsService {
         // 사용자 닉네임만 변경 (게시글과 댓글의 닉네임은 작성 당시의 닉네임으로 유지)
         memberToUpdate.updateNickname(newNickname);
         userRepository.save(memberToUpdate);
+        memberPrincipalCache.evict(memberToUpdate.getId());
 
         // 게시글과 댓글의 닉네임은 변경하지 않음
         // 각 게시글/댓글은 작성 당시의 닉네임을 유지해야 함
@@ -262,6 +267,7 @@ public class UserService implements UserDetailsService {
 
         user.suspend(suspendUntil, reason);
         userRepository.save(user);
+        memberPrincipalCache.evict(userId);
     }
 
     /**
@@ -274,13 +280,18 @@ public class UserService implements UserDetailsService {
 
         user.unsuspend();
         userRepository.save(user);
+        memberPrincipalCache.evict(userId);
     }
 
     /**
      * 비밀번호 변경 (프로필 페이지에서)
      */
     @Transactional
-    public void changePassword(Member user, String currentPassword, String newPassword) {
+    public void changePassword(Member principal, String currentPassword, String newPassword) {
+        // 인증 객체에는 비밀번호가 없으므로 이메일로 다시 조회
+        Member user = userRepository.findByEmail(principal.getEmail())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
         // OAuth 사용자는 비밀번호가 없으므로 변경 불가
         if (user.getProvider() != null && !user.getProvider().isEmpty()) {
             throw new IllegalArgumentException("소셜 로그인 사용자는 비밀번호를 변경할 수 없습니다.");
@@ -303,13 +314,18 @@ public class UserService implements UserDetailsService {
 
         // 새 비밀번호 암호화 후 저장
         user.updatePassword(passwordEncoder.encode(newPassword));
+        memberPrincipalCache.evict(user.getId());
     }
 
     /**
      * 회원 탈퇴
      */
     @Transactional
-    public void deleteAccount(Member user, String password) {
+    public void deleteAccount(Member principal, String password) {
+        // 인증 객체에는 비밀번호가 없으므로 이메일로 다시 조회
+        Member user = userRepository.findByEmail(principal.getEmail())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
         // OAuth 사용자가 아닌 경우에만 비밀번호 확인
         if (user.getProvider() == null || user.getProvider().isEmpty()) {
             // 일반 로그인 사용자: 비밀번호 확인 필수
@@ -344,11 +360,13 @@ public class UserService implements UserDetailsService {
             // 6. 댓글 삭제 (본인이 작성한 댓글 + 본인 게시글에 달린 모든 댓글)
             commentRepository.deleteAllCommentsByUser(user.getId());
 
-            // 7. 게시글 삭제 (PostImage, Poll, PollOption 등 포함)
+            // 7. 게시글 삭제 (PostImage, Poll, PollOption 등 포함, 통계는 먼저 삭제)
+            postRepository.deleteStatsByMemberId(user.getId());
             postRepository.deleteByMember(user);
 
             // 8. 사용자 삭제
             userRepository.delete(user);
+            memberPrincipalCache.evict(user.getId());
         } finally {
             // 외래키 제약조건 다시 활성화 (에러 발생 여부와 관계없이 실행)
             commentRepository.enableForeignKeyChecks();
@@ -1,59 +1,336 @@
 package com.example.anonymous_board.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Redis 기반 조회수 관리 서비스
  * IP/사용자별 중복 조회 방지
+ * - EXACT: 조회자별 키를 SET NX 한 번으로 확인 및 기록 (24시간)
+ * - BLOOM: 하루 단위 공용 Bloom filter 비트맵 하나에 (게시글, 조회자) 쌍으로 확인 및 기록 (근사치, 메모리 절약)
+ * 조회수 증가분은 Redis Hash에 모아두었다가 주기적으로 DB에 일괄 반영 (write-behind)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ViewCountService {
 
+    public enum DedupMode {
+        EXACT, BLOOM
+    }
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DedupMode dedupMode;
+
+    // Bloom filter 크기 (하루 예상 조회 쌍 수와 오탐률로 계산)
+    private final long bloomBits;
+    private final int bloomHashCount;
 
     // Redis 키 prefix
     private static final String VIEW_RECORD_PREFIX = "view:post:";
+    private static final String VIEW_BLOOM_PREFIX = "view:bloom:";
+
+    // Bloom filter 비트맵 보관 기간 (하루 단위 키 + 여유분)
+    private static final Duration BLOOM_EXPIRATION = Duration.ofHours(48);
+    private static final DateTimeFormatter BLOOM_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 비트를 모두 세팅하면서 하나라도 새로 켜졌다면 처음 조회한 사용자로 판단 (원자적 check-and-set)
+    private static final RedisScript<Long> BLOOM_CHECK_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "local isNew = 0\n"
+                    + "for i = 2, #ARGV do\n"
+                    + "  if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then isNew = 1 end\n"
+                    + "end\n"
+                    + "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end\n"
+                    + "return isNew",
+            Long.class);
+
+    // 아직 DB에 반영되지 않은 조회수 증가분 (field: 게시글 ID, value: 증가분)
+    private static final String VIEW_DELTA_KEY = "view:delta";
+
+    // DB 반영 중인 증가분 (flush 도중 들어오는 조회수와 분리)
+    private static final String VIEW_DELTA_FLUSHING_KEY = "view:delta:flushing";
+
+    // flushing 키에 함께 저장하는 flush ID (게시글 ID가 아닌 field)
+    private static final String FLUSH_ID_FIELD = "flush-id";
+
+    // 여러 서버가 동시에 flush 하지 않도록 잠금 (값: 잠금을 얻은 서버의 토큰)
+    private static final String VIEW_DELTA_LOCK_KEY = "view:delta:lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    // 자신의 토큰일 때만 잠금 해제 (잠금이 만료된 뒤 다른 서버가 얻은 잠금은 지우지 않음)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end\n"
+                    + "return 0",
+            Long.class);
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE post_stats SET view_count = view_count + ? WHERE post_id = ?";
+
+    // 이미 반영한 flush ID면 0건 (DB 커밋 후 flushing 키 삭제에 실패했던 증가분은 다시 반영하지 않음)
+    private static final String INSERT_FLUSH_SQL = "INSERT INTO view_count_flush (flush_id, flushed_at) VALUES (?, ?)"
+            + " ON CONFLICT (flush_id) DO NOTHING";
+    private static final String DELETE_OLD_FLUSH_SQL = "DELETE FROM view_count_flush WHERE flushed_at < ?";
+
+    // flush 기록 보관 기간 (flushing 키가 이보다 오래 남아 있을 일은 없음)
+    private static final Duration FLUSH_RECORD_RETENTION = Duration.ofDays(1);
 
     // 중복 조회 방지 시간 (24시간)
     private static final Duration VIEW_EXPIRATION = Duration.ofHours(24);
 
+    public ViewCountService(
+            RedisTemplate<String, Object> redisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${view-count.dedup-mode:exact}") String dedupMode,
+            @Value("${view-count.bloom-expected-views:1000000}") long bloomExpectedViews,
+            @Value("${view-count.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate) {
+        if (bloomExpectedViews < 1 || bloomFalsePositiveRate <= 0 || bloomFalsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter 설정이 올바르지 않습니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dedupMode = DedupMode.valueOf(dedupMode.toUpperCase());
+
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2 (Redis 비트맵 최대 크기 2^32 비트 이내)
+        double ln2 = Math.log(2);
+        this.bloomBits = Math.min(1L << 32,
+                (long) Math.ceil(-bloomExpectedViews * Math.log(bloomFalsePositiveRate) / (ln2 * ln2)));
+        this.bloomHashCount = Math.max(1, (int) Math.round((double) bloomBits / bloomExpectedViews * ln2));
+    }
+
     /**
-     * 조회 가능 여부 확인 및 기록
-     * 같은 게시글을 24시간 내 같은 IP/사용자가 조회했으면 false 반환
-     * 
+     * 조회 가능 여부 확인 및 기록 (Redis 호출 1회)
+     * EXACT: 같은 게시글을 24시간 내 같은 IP/사용자가 조회했으면 false 반환
+     * BLOOM: 같은 날 같은 IP/사용자가 조회했으면 false 반환 (오탐률만큼 처음 조회도 false가 될 수 있음)
+     *
      * @param postId           게시글 ID
      * @param viewerIdentifier IP 주소 또는 사용자 ID
      * @return true면 조회수 증가 가능, false면 이미 조회함
      */
     public boolean canIncrementViewCount(Long postId, String viewerIdentifier) {
+        boolean isNewViewer = dedupMode == DedupMode.BLOOM
+                ? checkAndSetBloom(postId, viewerIdentifier)
+                : checkAndSetExact(postId, viewerIdentifier);
+
+        if (!isNewViewer) {
+            log.debug("중복 조회 방지: postId={}, viewer={}", postId, viewerIdentifier);
+        }
+        return isNewViewer;
+    }
+
+    // 조회자별 키를 SET NX로 기록 (이미 있으면 false)
+    private boolean checkAndSetExact(Long postId, String viewerIdentifier) {
         String key = VIEW_RECORD_PREFIX + postId + ":" + viewerIdentifier;
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", VIEW_EXPIRATION));
+    }
 
-        // 이미 조회한 기록이 있는지 확인
-        Boolean exists = redisTemplate.hasKey(key);
+    // 일별 공용 Bloom filter 비트맵에 (게시글, 조회자) 쌍을 기록 (모든 비트가 이미 켜져 있으면 false)
+    // 게시글마다 비트맵을 만들면 조회자가 몇 명 없는 게시글도 비트맵 전체 크기를 차지하므로 하나를 공유
+    private boolean checkAndSetBloom(Long postId, String viewerIdentifier) {
+        Long result = stringRedisTemplate.execute(BLOOM_CHECK_AND_SET_SCRIPT, List.of(bloomKey()),
+                bloomArgs(postId, viewerIdentifier));
+        return result != null && result == 1L;
+    }
 
-        if (Boolean.TRUE.equals(exists)) {
-            log.debug("중복 조회 방지: postId={}, viewer={}", postId, viewerIdentifier);
-            return false;
+    // [보관 기간(초), 비트 위치...]
+    Object[] bloomArgs(Long postId, String viewerIdentifier) {
+        // 64비트 FNV-1a 해시 두 개로 double hashing 하여 비트 위치 계산
+        String member = postId + ":" + viewerIdentifier;
+        long h1 = fnv1a64(member);
+        long h2 = fnv1a64(new StringBuilder(member).reverse().toString()) | 1L;
+
+        Object[] args = new Object[bloomHashCount + 1];
+        args[0] = String.valueOf(BLOOM_EXPIRATION.getSeconds());
+        for (int i = 0; i < bloomHashCount; i++) {
+            args[i + 1] = String.valueOf(Math.floorMod(h1 + i * h2, bloomBits));
+        }
+        return args;
+    }
+
+    private String bloomKey() {
+        return VIEW_BLOOM_PREFIX + LocalDate.now().format(BLOOM_DATE_FORMAT);
+    }
+
+    private static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 조회수 증가 (Redis에 증가분만 누적, DB 반영은 flushPendingViewCounts에서 처리)
+     *
+     * @return 아직 DB에 반영되지 않은 증가분 (DB 반영 중인 증가분 포함)
+     */
+    public long incrementViewCount(Long postId) {
+        String field = postId.toString();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hIncrBy(VIEW_DELTA_KEY, field, 1);
+            stringConnection.hGet(VIEW_DELTA_FLUSHING_KEY, field);
+            return null;
+        });
+
+        long pending = 0;
+        for (Object value : results) {
+            if (value != null) {
+                pending += Long.parseLong(value.toString());
+            }
         }
+        return pending;
+    }
 
-        // 조회 기록 저장 (24시간 후 자동 삭제)
-        redisTemplate.opsForValue().set(key, "1", VIEW_EXPIRATION);
-        log.debug("조회 기록 저장: postId={}, viewer={}, ttl=24h", postId, viewerIdentifier);
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분 조회
+     */
+    public long getPendingViewCount(Long postId) {
+        return getPendingViewCounts(List.of(postId)).getOrDefault(postId, 0L);
+    }
 
+    /**
+     * 여러 게시글의 미반영 조회수 증가분을 한 번에 조회 (목록 조회용)
+     * 누적 중인 증가분과 DB 반영 중(또는 반영 실패로 남은) 증가분을 합산 (pipeline 한 번)
+     */
+    public Map<Long, Long> getPendingViewCounts(Collection<Long> postIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+
+        String[] fields = new String[postIds.size()];
+        int index = 0;
+        for (Long postId : postIds) {
+            fields[index++] = postId.toString();
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMGet(VIEW_DELTA_KEY, fields);
+            stringConnection.hMGet(VIEW_DELTA_FLUSHING_KEY, fields);
+            return null;
+        });
+
+        for (Object values : results) {
+            index = 0;
+            for (Long postId : postIds) {
+                Object value = ((List<?>) values).get(index++);
+                if (value != null) {
+                    result.merge(postId, Long.parseLong(value.toString()), Long::sum);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 누적된 조회수 증가분을 DB에 일괄 반영
+     * 증가분 Hash를 flushing 키로 옮기고 flush ID를 붙인 뒤, flush ID 기록과 JDBC batch UPDATE를 한 트랜잭션으로 반영하고
+     * 커밋이 끝난 후에만 flushing 키를 삭제 (삭제에 실패해도 다음 실행에서 같은 flush ID로 확인하여 다시 반영하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:10000}")
+    public void flushPendingViewCounts() {
+        try {
+            String lockToken = UUID.randomUUID().toString();
+            Boolean locked = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(VIEW_DELTA_LOCK_KEY, lockToken, FLUSH_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            try {
+                // 이전 flush가 중간에 실패했다면 남아있는 증가분부터 반영
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(VIEW_DELTA_FLUSHING_KEY))) {
+                    if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(VIEW_DELTA_KEY))) {
+                        return;
+                    }
+                    stringRedisTemplate.rename(VIEW_DELTA_KEY, VIEW_DELTA_FLUSHING_KEY);
+                }
+
+                // 남아있던 증가분이면 처음 정한 flush ID를 그대로 사용
+                stringRedisTemplate.opsForHash()
+                        .putIfAbsent(VIEW_DELTA_FLUSHING_KEY, FLUSH_ID_FIELD, UUID.randomUUID().toString());
+
+                Map<Object, Object> deltas = stringRedisTemplate.opsForHash().entries(VIEW_DELTA_FLUSHING_KEY);
+                String flushId = String.valueOf(deltas.get(FLUSH_ID_FIELD));
+                List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+                for (Map.Entry<Object, Object> entry : deltas.entrySet()) {
+                    if (FLUSH_ID_FIELD.equals(entry.getKey())) {
+                        continue;
+                    }
+                    long delta = Long.parseLong(entry.getValue().toString());
+                    if (delta != 0) {
+                        batchArgs.add(new Object[] { delta, Long.parseLong(entry.getKey().toString()) });
+                    }
+                }
+
+                Boolean applied = transactionTemplate.execute(status -> applyDeltas(flushId, batchArgs));
+
+                stringRedisTemplate.delete(VIEW_DELTA_FLUSHING_KEY);
+                if (Boolean.TRUE.equals(applied)) {
+                    log.debug("조회수 일괄 반영 완료: {} 건", batchArgs.size());
+                } else {
+                    log.info("이미 반영된 조회수 증가분 정리: flushId={}", flushId);
+                }
+            } finally {
+                stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(VIEW_DELTA_LOCK_KEY), lockToken);
+            }
+        } catch (Exception e) {
+            log.warn("조회수 일괄 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안에서 실행 (이미 반영한 flush ID면 false)
+    private boolean applyDeltas(String flushId, List<Object[]> batchArgs) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(INSERT_FLUSH_SQL, flushId, Timestamp.valueOf(now)) == 0) {
+            return false;
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, batchArgs);
+        }
+        jdbcTemplate.update(DELETE_OLD_FLUSH_SQL, Timestamp.valueOf(now.minus(FLUSH_RECORD_RETENTION)));
         return true;
     }
 
     /**
      * 특정 게시글의 조회 기록 삭제 (테스트/관리용)
+     * BLOOM 모드에서는 모든 게시글이 비트맵을 함께 쓰고 개별 기록만 지울 수 없으므로 삭제하지 않음
      */
     public void clearViewRecord(Long postId, String viewerIdentifier) {
+        if (dedupMode == DedupMode.BLOOM) {
+            log.debug("BLOOM 모드에서는 조회 기록을 개별 삭제할 수 없음: postId={}", postId);
+            return;
+        }
         String key = VIEW_RECORD_PREFIX + postId + ":" + viewerIdentifier;
         redisTemplate.delete(key);
     }
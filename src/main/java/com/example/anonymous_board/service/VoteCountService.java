@@ -0,0 +1,107 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.Vote;
+import com.example.anonymous_board.domain.VoteType;
+import com.example.anonymous_board.repository.PostStatsRepository;
+import com.example.anonymous_board.repository.VoteRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 추천/비추천 처리
+ * - 투표 상태 변경(취소/변경/새 투표)은 조건부 DELETE/UPDATE/INSERT 한 문장으로 처리하고,
+ *   반영된 행 수로 어떤 변경이 일어났는지 판단 (조회 후 수정하지 않으므로 동시 요청에도 중복 투표/유실 없음)
+ * - (member, post) 유니크 제약으로 같은 사용자의 투표는 하나만 유지
+ * - 게시글 추천/비추천 수는 UPDATE post_stats SET likes = likes + ? 형태로 원자적으로 반영
+ */
+@Service
+public class VoteCountService {
+
+    private final VoteRepository voteRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdGenerator entityIdGenerator;
+
+    // PostgreSQL 여부 (처음 사용할 때 확인)
+    private volatile Boolean postgreSql;
+
+    // 이미 투표가 있으면 아무 것도 하지 않음 (PostgreSQL)
+    // ID는 엔티티의 시퀀스 생성기로 발급 (EntityIdGenerator)
+    private static final String UPSERT_VOTE_SQL = "INSERT INTO vote (id, member_id, post_id, vote_type)"
+            + " VALUES (?, ?, ?, ?) ON CONFLICT (member_id, post_id) DO NOTHING";
+    // 그 외 DB (H2 등, 동시에 INSERT하면 유니크 제약 위반으로 실패 -> 이미 투표한 것으로 처리)
+    private static final String INSERT_VOTE_IF_ABSENT_SQL = "INSERT INTO vote (id, member_id, post_id, vote_type)"
+            + " SELECT ?, ?, ?, ? FROM (VALUES (1)) t"
+            + " WHERE NOT EXISTS (SELECT 1 FROM vote WHERE member_id = ? AND post_id = ?)";
+
+    // 같은 사용자의 동시 요청과 겹쳤을 때 다시 시도할 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    public VoteCountService(VoteRepository voteRepository, PostStatsRepository postStatsRepository,
+            JdbcTemplate jdbcTemplate, EntityIdGenerator entityIdGenerator) {
+        this.voteRepository = voteRepository;
+        this.postStatsRepository = postStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityIdGenerator = entityIdGenerator;
+    }
+
+    /**
+     * 투표 반영 (같은 타입이면 취소, 다른 타입이면 변경, 없으면 새 투표)
+     *
+     * @return 네트 스코어(추천수 - 비추천수) 변화량
+     */
+    @Transactional
+    public int vote(Long postId, Long memberId, VoteType voteType) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int likeDelta;
+            int dislikeDelta;
+
+            if (voteRepository.deleteByMemberIdAndPostIdAndVoteType(memberId, postId, voteType) > 0) {
+                // 같은 타입으로 이미 투표 -> 취소
+                likeDelta = voteType == VoteType.LIKE ? -1 : 0;
+                dislikeDelta = voteType == VoteType.LIKE ? 0 : -1;
+            } else if (voteRepository.changeVoteType(memberId, postId, voteType) > 0) {
+                // 다른 타입으로 투표 -> 변경
+                likeDelta = voteType == VoteType.LIKE ? 1 : -1;
+                dislikeDelta = -likeDelta;
+            } else if (insertVote(memberId, postId, voteType) > 0) {
+                // 첫 투표
+                likeDelta = voteType == VoteType.LIKE ? 1 : 0;
+                dislikeDelta = voteType == VoteType.LIKE ? 0 : 1;
+            } else {
+                // 같은 사용자의 다른 요청이 먼저 투표함 -> 다시 판단
+                continue;
+            }
+
+            if (postStatsRepository.applyVoteDelta(postId, likeDelta, dislikeDelta) == 0) {
+                // 통계 행이 없으면 투표도 롤백 (카운터와 투표 행이 어긋나지 않도록)
+                throw new IllegalStateException("게시글 통계를 찾을 수 없습니다.");
+            }
+            return likeDelta - dislikeDelta;
+        }
+        throw new IllegalStateException("투표 처리 중 충돌이 발생했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 아직 투표하지 않은 경우에만 INSERT (반영된 행 수 반환)
+    private int insertVote(Long memberId, Long postId, VoteType voteType) {
+        if (postgreSql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgreSql = "PostgreSQL".equals(product);
+        }
+        Long id = entityIdGenerator.nextId(Vote.class);
+        if (postgreSql) {
+            return jdbcTemplate.update(UPSERT_VOTE_SQL, id, memberId, postId, voteType.name());
+        }
+        try {
+            return jdbcTemplate.update(INSERT_VOTE_IF_ABSENT_SQL, id, memberId, postId, voteType.name(),
+                    memberId, postId);
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자의 다른 요청이 먼저 INSERT 함 (H2는 실패한 문장만 취소되고 트랜잭션은 계속 사용 가능)
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- 조회수 일괄 반영 기록 (ViewCountService)
+-- DB 커밋 후 Redis의 flushing 키 삭제에 실패해도 같은 증가분을 다시 반영하지 않도록 flush ID를 같은 트랜잭션에 저장
+CREATE TABLE IF NOT EXISTS view_count_flush (
+    flush_id VARCHAR(36) PRIMARY KEY,
+    flushed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_view_count_flush_flushed_at ON view_count_flush (flushed_at);
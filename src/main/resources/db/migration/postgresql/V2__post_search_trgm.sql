@@ -0,0 +1,8 @@
+-- 게시글 검색 인덱스 (PostSearchService)
+-- 부분 일치(한글 포함) ILIKE 검색과 유사도 정렬에 pg_trgm GIN 인덱스 사용
+-- 확장 설치 권한이 없으면 DBA가 미리 CREATE EXTENSION pg_trgm 실행
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_post_title_trgm ON post USING gin (title gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_post_content_trgm ON post USING gin (content gin_trgm_ops);
@@ -0,0 +1,39 @@
+-- 대화방 (user_id, other_user_id) 유니크 제약 및 이전 대화의 대화방 정보 보정 (MessageService, ChatMessageWriter)
+
+-- 1. 중복된 대화방은 id가 가장 작은 행에 합침 (가장 앞선 읽음 위치 유지, 마지막 메시지 정보는 아래에서 다시 계산)
+UPDATE user_conversation uc
+SET last_read_message_id = d.last_read_message_id, hidden = d.hidden,
+    last_message_id = NULL, last_message_preview = NULL, last_message_at = NULL
+FROM (SELECT MIN(id) AS keep_id, MAX(last_read_message_id) AS last_read_message_id, BOOL_AND(hidden) AS hidden
+      FROM user_conversation GROUP BY user_id, other_user_id HAVING COUNT(*) > 1) d
+WHERE uc.id = d.keep_id;
+
+DELETE FROM user_conversation uc
+USING user_conversation keep
+WHERE keep.user_id = uc.user_id AND keep.other_user_id = uc.other_user_id AND keep.id < uc.id;
+
+-- 엔티티의 @UniqueConstraint와 같은 이름 (ddl-auto가 다시 만들지 않도록)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_conversation_pair ON user_conversation (user_id, other_user_id);
+
+-- 2. 메시지는 있는데 대화방이 없는 경우 생성
+INSERT INTO user_conversation (user_id, other_user_id, hidden, unread_count)
+SELECT p.user_id, p.other_user_id, false, 0
+FROM (SELECT sender_id AS user_id, receiver_id AS other_user_id FROM message
+      UNION SELECT receiver_id, sender_id FROM message) p
+ON CONFLICT (user_id, other_user_id) DO NOTHING;
+
+-- 3. 마지막 메시지 정보가 없는 대화방만 메시지 테이블에서 채움
+UPDATE user_conversation
+SET last_message_id = (SELECT MAX(m.id) FROM message m
+                       WHERE (m.sender_id = user_conversation.user_id AND m.receiver_id = user_conversation.other_user_id)
+                          OR (m.sender_id = user_conversation.other_user_id AND m.receiver_id = user_conversation.user_id)),
+    unread_count = (SELECT COUNT(*) FROM message m
+                    WHERE m.sender_id = user_conversation.other_user_id AND m.receiver_id = user_conversation.user_id
+                      AND m.read_at IS NULL
+                      AND (user_conversation.last_read_message_id IS NULL OR m.id > user_conversation.last_read_message_id))
+WHERE last_message_id IS NULL;
+
+UPDATE user_conversation
+SET last_message_at = (SELECT m.created_at FROM message m WHERE m.id = user_conversation.last_message_id),
+    last_message_preview = (SELECT SUBSTRING(m.content, 1, 100) FROM message m WHERE m.id = user_conversation.last_message_id)
+WHERE last_message_id IS NOT NULL AND last_message_at IS NULL;
@@ -0,0 +1,16 @@
+-- 설문 투표 (poll_id, user_id) 유니크 제약 (PollVoteService의 ON CONFLICT (poll_id, user_id))
+-- 제약이 없던 동안 생긴 중복 투표는 id가 가장 작은 행만 남기고, 해당 설문의 선택지 투표 수를 다시 계산
+
+CREATE TEMP TABLE poll_vote_duplicate ON COMMIT DROP AS
+SELECT DISTINCT poll_id FROM poll_vote GROUP BY poll_id, user_id HAVING COUNT(*) > 1;
+
+DELETE FROM poll_vote pv
+USING poll_vote keep
+WHERE keep.poll_id = pv.poll_id AND keep.user_id = pv.user_id AND keep.id < pv.id;
+
+UPDATE poll_option po
+SET vote_count = (SELECT COUNT(*) FROM poll_vote pv WHERE pv.option_id = po.id)
+WHERE po.poll_id IN (SELECT poll_id FROM poll_vote_duplicate);
+
+-- 엔티티의 @UniqueConstraint와 같은 이름 (ddl-auto가 다시 만들지 않도록)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_poll_vote_poll_user ON poll_vote (poll_id, user_id);
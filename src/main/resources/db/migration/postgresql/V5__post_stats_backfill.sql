@@ -0,0 +1,13 @@
+-- 게시글 통계(post_stats) 보정 (PostService는 게시글과 통계 행을 함께 저장하고, 카운터 UPDATE는 통계 행이 있다고 가정)
+-- 카운터를 post 테이블에서 분리하기 이전 게시글은 통계 행이 없으므로 post의 기존 카운터 값으로 채움
+
+-- 1. 새로 만든 스키마에는 기존 카운터 컬럼이 없으므로 0으로 추가 (기존 스키마는 그대로, 더 이상 갱신하지 않음)
+ALTER TABLE post ADD COLUMN IF NOT EXISTS view_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE post ADD COLUMN IF NOT EXISTS likes INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE post ADD COLUMN IF NOT EXISTS dislikes INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE post ADD COLUMN IF NOT EXISTS comment_count INTEGER NOT NULL DEFAULT 0;
+
+-- 2. 통계 행이 없는 게시글만 기존 카운터 값으로 생성
+INSERT INTO post_stats (post_id, view_count, likes, dislikes, comment_count)
+SELECT p.id, p.view_count, p.likes, p.dislikes, p.comment_count FROM post p
+ON CONFLICT (post_id) DO NOTHING;
@@ -0,0 +1,7 @@
+-- ID 시퀀스 위치 보정 (Comment, Vote, PollVote, PostImage: IDENTITY -> 시퀀스, allocationSize 50)
+-- Hibernate가 새 시퀀스를 1부터 만들기 때문에 기존 데이터의 최대 ID + allocationSize 이후부터 발급되도록 앞으로 이동
+-- (pooled 방식은 시퀀스 값 이전 allocationSize개를 사용, 뒤로는 이동하지 않음)
+SELECT setval('comment_seq', GREATEST(last_value, (SELECT COALESCE(MAX(id), 0) FROM comment) + 50)) FROM comment_seq;
+SELECT setval('vote_seq', GREATEST(last_value, (SELECT COALESCE(MAX(id), 0) FROM vote) + 50)) FROM vote_seq;
+SELECT setval('poll_vote_seq', GREATEST(last_value, (SELECT COALESCE(MAX(id), 0) FROM poll_vote) + 50)) FROM poll_vote_seq;
+SELECT setval('post_image_seq', GREATEST(last_value, (SELECT COALESCE(MAX(id), 0) FROM post_image) + 50)) FROM post_image_seq;
@@ -0,0 +1,23 @@
+// STOMP 연결용 소켓 생성 (chat.html, my-chats.html, posts/detail.html 공통)
+// 기본 WebSocket(/ws/stomp) 우선 사용, 한 번도 연결되지 않으면 이후에는 SockJS(/ws/chat)로 대체
+(function () {
+    let useSockJS = false;
+
+    window.createStompSocket = function () {
+        if (useSockJS || !window.WebSocket) {
+            return new SockJS('/ws/chat');
+        }
+        const protocol = location.protocol === 'https:' ? 'wss://' : 'ws://';
+        const socket = new WebSocket(protocol + location.host + '/ws/stomp');
+        let opened = false;
+        socket.addEventListener('open', function () {
+            opened = true;
+        });
+        socket.addEventListener('close', function () {
+            if (!opened) {
+                useSockJS = true;
+            }
+        });
+        return socket;
+    };
+})();
@@ -3,15 +3,22 @@ package com.example.anonymous_board.controllers.api;
 import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Post;
 import com.example.anonymous_board.domain.Role;
+import com.example.anonymous_board.dto.PostSummaryResponse;
+import com.example.anonymous_board.service.AnnouncementRegistry;
+import com.example.anonymous_board.service.CommentService;
+import com.example.anonymous_board.service.FeedPageCache;
 import com.example.anonymous_board.service.PostService;
 import com.example.anonymous_board.service.ViewCountService;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(PostController.class)
 @AutoConfigureMockMvc(addFilters = false) // Spring Security 필터 비활성화
+@Import(FeedPageCache.class) // 목록 캐시는 실제 객체로 PostService(mock)를 호출
 class PostControllerTest {
 
         @Autowired
@@ -33,9 +41,27 @@ class PostControllerTest {
         @MockitoBean
         private PostService postService;
 
+        @MockitoBean
+        private CommentService commentService;
+
         @MockitoBean
         private ViewCountService viewCountService;
 
+        @MockitoBean
+        private AnnouncementRegistry announcementRegistry;
+
+        @MockitoBean
+        private StringRedisTemplate stringRedisTemplate;
+
+        @Autowired
+        private FeedPageCache feedPageCache;
+
+        @BeforeEach
+        void setUp() {
+                // 테스트끼리 캐시된 목록을 공유하지 않도록 비움
+                feedPageCache.invalidate();
+        }
+
         // 테스트용 Member 생성 헬퍼
         private Member createTestMember() {
                 return Member.builder()
@@ -55,9 +81,9 @@ class PostControllerTest {
                 post.setContent("테스트 내용입니다.");
                 post.setMember(member);
                 post.setNickname(member.getNickname());
-                post.setViewCount(0);
-                post.setLikes(0);
-                post.setDislikes(0);
+                post.getStats().setViewCount(0);
+                post.getStats().setLikes(0);
+                post.getStats().setDislikes(0);
                 return post;
         }
 
@@ -86,6 +112,37 @@ class PostControllerTest {
                                 .andExpect(jsonPath("$.totalElements").value(1));
         }
 
+        @Test
+        @DisplayName("게시글 전체 조회 - 첫 페이지 앞에 공지사항 스냅샷 포함")
+        void getAllPosts_FirstPage_IncludesAnnouncements() throws Exception {
+                // given
+                Member member = createTestMember();
+                Post post = createTestPost(member);
+                Post announcement = createTestPost(member);
+                announcement.setId(2L);
+                announcement.setTitle("공지사항");
+                announcement.setAnnouncement(true);
+                PageImpl<Post> postPage = new PageImpl<>(
+                                Collections.singletonList(post),
+                                PageRequest.of(0, 9),
+                                1);
+
+                Mockito.when(announcementRegistry.getAnnouncements(null))
+                                .thenReturn(Collections.singletonList(new PostSummaryResponse(announcement, null, 0)));
+                Mockito.when(postService.getAllPosts(anyInt(), anyInt(), anyString()))
+                                .thenReturn(postPage);
+
+                // when & then
+                mockMvc.perform(get("/api/posts")
+                                .param("page", "0")
+                                .param("size", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.posts[0].title").value("공지사항"))
+                                .andExpect(jsonPath("$.posts[0].isAnnouncement").value(true))
+                                .andExpect(jsonPath("$.posts[1].id").value(1))
+                                .andExpect(jsonPath("$.totalElements").value(2));
+        }
+
         @Test
         @DisplayName("게시글 단건 조회 성공")
         void getPostById_Success() throws Exception {
@@ -93,7 +150,6 @@ class PostControllerTest {
                 Member member = createTestMember();
                 Post post = createTestPost(member);
 
-                Mockito.doNothing().when(postService).incrementViewCount(anyLong());
                 Mockito.when(postService.getPostById(1L)).thenReturn(post);
 
                 // when & then
@@ -103,6 +159,24 @@ class PostControllerTest {
                                 .andExpect(jsonPath("$.title").value("테스트 게시글"));
         }
 
+        @Test
+        @DisplayName("게시글 단건 조회 - 아직 DB에 반영되지 않은 조회수 포함")
+        void getPostById_IncludesPendingViewCount() throws Exception {
+                // given
+                Member member = createTestMember();
+                Post post = createTestPost(member);
+                post.getStats().setViewCount(10);
+
+                Mockito.when(postService.getPostById(1L)).thenReturn(post);
+                Mockito.when(viewCountService.canIncrementViewCount(anyLong(), anyString())).thenReturn(true);
+                Mockito.when(viewCountService.incrementViewCount(1L)).thenReturn(3L);
+
+                // when & then
+                mockMvc.perform(get("/api/posts/1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.viewCount").value(13));
+        }
+
         @Test
         @DisplayName("게시글 삭제 - 비로그인 시 401 에러")
         void deletePost_Unauthorized() throws Exception {
@@ -133,6 +207,7 @@ class PostControllerTest {
                                 .param("size", "10"))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.content").isArray())
+                                .andExpect(jsonPath("$.content[0].highlightedTitle").value("<mark>테스트</mark> 게시글"))
                                 .andExpect(jsonPath("$.totalElements").value(1));
         }
 
@@ -164,9 +239,8 @@ class PostControllerTest {
                 // given
                 Member member = createTestMember();
                 Post post = createTestPost(member);
-                post.setDislikes(12); // 비추천 12개 설정
+                post.getStats().setDislikes(12); // 비추천 12개 설정
 
-                Mockito.doNothing().when(postService).incrementViewCount(anyLong());
                 Mockito.when(postService.getPostById(1L)).thenReturn(post);
 
                 // when & then
@@ -182,9 +256,8 @@ class PostControllerTest {
                 // given
                 Member member = createTestMember();
                 Post post = createTestPost(member);
-                post.setDislikes(5); // 비추천 5개 설정
+                post.getStats().setDislikes(5); // 비추천 5개 설정
 
-                Mockito.doNothing().when(postService).incrementViewCount(anyLong());
                 Mockito.when(postService.getPostById(1L)).thenReturn(post);
 
                 // when & then
@@ -202,8 +275,8 @@ class PostControllerTest {
 
                 // 네트 스코어 12점 (15 - 3)
                 Post hotPost = createTestPost(member);
-                hotPost.setLikes(15);
-                hotPost.setDislikes(3);
+                hotPost.getStats().setLikes(15);
+                hotPost.getStats().setDislikes(3);
 
                 PageImpl<Post> postPage = new PageImpl<>(
                                 Collections.singletonList(hotPost),
@@ -5,9 +5,11 @@ import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Post;
 import com.example.anonymous_board.domain.Role;
 import com.example.anonymous_board.dto.CommentCreateRequest;
+import com.example.anonymous_board.dto.CommentResponse;
 import com.example.anonymous_board.dto.CommentUpdateRequest;
 import com.example.anonymous_board.repository.CommentRepository;
 import com.example.anonymous_board.repository.PostRepository;
+import com.example.anonymous_board.repository.PostStatsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,11 +34,14 @@ class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostStatsRepository postStatsRepository;
+
     private CommentService commentService;
 
     @BeforeEach
     void setUp() {
-        commentService = new CommentService(commentRepository, postRepository);
+        commentService = new CommentService(commentRepository, postRepository, postStatsRepository);
     }
 
     // 테스트용 Member 생성 헬퍼
@@ -66,7 +72,6 @@ class CommentServiceTest {
         post.setTitle("테스트 게시글");
         post.setContent("테스트 내용");
         post.setMember(author);
-        post.setCommentCount(0);
         return post;
     }
 
@@ -81,6 +86,35 @@ class CommentServiceTest {
         return comment;
     }
 
+    @Test
+    @DisplayName("댓글 목록 조회 - 한 번의 조회 결과로 계층 구조와 익명 번호 생성")
+    void getCommentsByPostId_BuildsTreeFromSingleQuery() {
+        // given
+        Member author = createTestMember(1L, "author");
+        Member commenter = createTestMember(2L, "commenter");
+        Member other = createTestMember(3L, "other");
+        Post post = createTestPost(1L, author);
+
+        Comment root = createTestComment(10L, post, commenter, "부모 댓글");
+        Comment reply = createTestComment(11L, post, other, "비밀 대댓글");
+        reply.setParent(root);
+        reply.setSecret(true);
+        Comment secondRoot = createTestComment(12L, post, commenter, "두번째 댓글");
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(commentRepository.findAllByPostIdWithMember(1L)).thenReturn(List.of(root, reply, secondRoot));
+
+        // when
+        List<CommentResponse> result = commentService.getCommentsByPostId(1L, null);
+
+        // then
+        assertThat(result).extracting(CommentResponse::getId).containsExactly(10L, 12L);
+        assertThat(result.get(0).getChildren()).hasSize(1);
+        CommentResponse secretReply = result.get(0).getChildren().get(0);
+        assertThat(secretReply.getNickname()).isEqualTo("익명 2"); // 두 번째로 등장한 작성자
+        assertThat(secretReply.getContent()).isEqualTo("비밀 댓글입니다.");
+    }
+
     @Test
     @DisplayName("댓글 작성 - 성공")
     void createComment_Success() {
@@ -94,14 +128,15 @@ class CommentServiceTest {
         request.setSecret(false);
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postStatsRepository.addCommentCount(1L, 1)).thenReturn(1);
 
         // when
         commentService.createComment(1L, request, commenter);
 
         // then
         verify(commentRepository).save(any(Comment.class));
-        verify(postRepository).save(post);
-        assertThat(post.getCommentCount()).isEqualTo(1); // 댓글 수 증가 확인
+        verify(postStatsRepository).addCommentCount(1L, 1); // 댓글 수 증가 확인
+        verify(postRepository, never()).save(any()); // 게시글 행은 다시 저장하지 않음
     }
 
     @Test
@@ -150,7 +185,6 @@ class CommentServiceTest {
         // given
         Member author = createTestMember(1L, "author");
         Post post = createTestPost(1L, author);
-        post.setCommentCount(1); // 기존 댓글 1개
 
         Comment comment = createTestComment(1L, post, author, "내 댓글");
 
@@ -161,8 +195,7 @@ class CommentServiceTest {
 
         // then
         verify(commentRepository).delete(comment);
-        verify(postRepository).save(post);
-        assertThat(post.getCommentCount()).isEqualTo(0); // 댓글 수 감소 확인
+        verify(postStatsRepository).addCommentCount(1L, -1); // 댓글 수 감소 확인
     }
 
     @Test
@@ -0,0 +1,108 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.domain.Post;
+import com.example.anonymous_board.domain.Role;
+import com.example.anonymous_board.repository.PostRepository;
+import com.example.anonymous_board.repository.PostStatsRepository;
+import com.example.anonymous_board.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * 투표 동시성 통합 테스트 공통 (VoteCountServiceTest, PollVoteServiceTest)
+ * 실제 DB(H2)에서 조건부 INSERT/UPDATE와 유니크 제약이 함께 동작하는지 확인
+ */
+@SpringBootTest
+abstract class ConcurrentVoteTestSupport {
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected PostRepository postRepository;
+
+    @Autowired
+    protected PostStatsRepository postStatsRepository;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    // 테스트마다 사용자 이름이 겹치지 않도록 사용
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    protected Member createMember() {
+        String name = "voter" + System.nanoTime() + "_" + SEQUENCE.incrementAndGet();
+        return userRepository.save(Member.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .nickname(name)
+                .role(Role.USER)
+                .provider("local")
+                .build());
+    }
+
+    // 게시글과 통계 행 저장 (PostService.createPost와 같이 통계 행도 함께 생성)
+    protected Post savePost(Post post) {
+        Post saved = postRepository.save(post);
+        postStatsRepository.save(saved.getStats());
+        return saved;
+    }
+
+    /**
+     * 작업 taskCount개를 동시에 시작하여 모두 끝날 때까지 대기 (작업에서 발생한 예외는 그대로 실패 처리)
+     */
+    protected void runConcurrently(int taskCount, IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < taskCount; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 충돌로 롤백된 요청은 클라이언트처럼 다시 시도 (유니크 제약 위반, 서비스의 충돌 예외만 해당하고 그 외 예외는 그대로 실패)
+     *
+     * @return 반영 성공 여부
+     */
+    protected boolean retry(Runnable request) {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            try {
+                request.run();
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                // 다시 시도
+            } catch (IllegalStateException e) {
+                if (e.getMessage() == null || !e.getMessage().contains("충돌")) {
+                    throw e;
+                }
+            }
+        }
+        return false;
+    }
+}
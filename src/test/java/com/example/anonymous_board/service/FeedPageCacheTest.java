@@ -0,0 +1,144 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.BoardType;
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.domain.Post;
+import com.example.anonymous_board.domain.Role;
+import com.example.anonymous_board.dto.PostSummaryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedPageCacheTest {
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private FeedPageCache feedPageCache;
+
+    @BeforeEach
+    void setUp() {
+        // 보관 시간 1분, 앞쪽 3페이지까지 캐시
+        feedPageCache = new FeedPageCache(postService, redisTemplate, 60000, 120000, 3, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedPageCache.shutdown();
+    }
+
+    private Page<Post> pageOf(Long postId, String title) {
+        Member author = Member.builder()
+                .username("author")
+                .email("author@example.com")
+                .nickname("작성자")
+                .role(Role.USER)
+                .provider("local")
+                .build();
+        Post post = new Post();
+        post.setId(postId);
+        post.setTitle(title);
+        post.setContent("내용");
+        post.setMember(author);
+        post.setNickname(author.getNickname());
+        return new PageImpl<>(Collections.singletonList(post), PageRequest.of(0, 10), 1);
+    }
+
+    @Test
+    @DisplayName("보관 시간 안에서는 같은 키를 다시 조회하지 않음")
+    void getPage_Fresh_ServedFromCache() {
+        // given
+        when(postService.getAllPosts(0, 10, "latest")).thenReturn(pageOf(1L, "첫 글"));
+
+        // when
+        Page<PostSummaryResponse> first = feedPageCache.getPage(null, "latest", 0, 10);
+        Page<PostSummaryResponse> second = feedPageCache.getPage(null, "latest", 0, 10);
+
+        // then
+        assertThat(second.getContent()).extracting(PostSummaryResponse::getTitle).containsExactly("첫 글");
+        assertThat(second).isSameAs(first);
+        verify(postService, times(1)).getAllPosts(0, 10, "latest");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 정렬 방식은 최신순과 같은 키 사용")
+    void getPage_UnknownSort_SharesLatestKey() {
+        // given
+        when(postService.getAllPostsByBoardType(0, 10, "latest", BoardType.FREE)).thenReturn(pageOf(1L, "첫 글"));
+
+        // when
+        feedPageCache.getPage(BoardType.FREE, "latest", 0, 10);
+        feedPageCache.getPage(BoardType.FREE, "unknown", 0, 10);
+
+        // then
+        verify(postService, times(1)).getAllPostsByBoardType(0, 10, "latest", BoardType.FREE);
+    }
+
+    @Test
+    @DisplayName("게시글 작성/삭제 후에는 캐시를 비우고 다시 조회")
+    void onFeedChanged_InvalidatesAndBroadcasts() {
+        // given
+        when(postService.getAllPosts(0, 10, "latest"))
+                .thenReturn(pageOf(1L, "첫 글"))
+                .thenReturn(pageOf(2L, "새 글"));
+        feedPageCache.getPage(null, "latest", 0, 10);
+
+        // when
+        feedPageCache.onFeedChanged(new FeedPageCache.FeedChanged(2L));
+        Page<PostSummaryResponse> result = feedPageCache.getPage(null, "latest", 0, 10);
+
+        // then
+        assertThat(result.getContent()).extracting(PostSummaryResponse::getTitle).containsExactly("새 글");
+        verify(redisTemplate).convertAndSend(FeedPageCache.INVALIDATE_CHANNEL, "2");
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나면 이전 결과로 응답하고 백그라운드에서 한 번만 갱신")
+    void getPage_Stale_ServesOldAndRefreshesOnce() {
+        // given: 보관 시간 0 (항상 stale), 최대 1분까지 이전 결과 사용
+        feedPageCache.shutdown();
+        feedPageCache = new FeedPageCache(postService, redisTemplate, 0, 60000, 3, 50);
+        when(postService.getAllPosts(0, 10, "latest"))
+                .thenReturn(pageOf(1L, "첫 글"))
+                .thenReturn(pageOf(2L, "새 글"));
+        feedPageCache.getPage(null, "latest", 0, 10);
+
+        // when
+        Page<PostSummaryResponse> stale = feedPageCache.getPage(null, "latest", 0, 10);
+
+        // then
+        assertThat(stale.getContent()).extracting(PostSummaryResponse::getTitle).containsExactly("첫 글");
+        verify(postService, timeout(1000).times(2)).getAllPosts(0, 10, "latest");
+    }
+
+    @Test
+    @DisplayName("캐시 범위를 넘는 페이지는 매번 조회")
+    void getPage_BeyondMaxPage_NotCached() {
+        // given
+        when(postService.getAllPosts(5, 10, "latest")).thenReturn(pageOf(1L, "오래된 글"));
+
+        // when
+        feedPageCache.getPage(null, "latest", 5, 10);
+        feedPageCache.getPage(null, "latest", 5, 10);
+
+        // then
+        verify(postService, times(2)).getAllPosts(5, 10, "latest");
+    }
+}
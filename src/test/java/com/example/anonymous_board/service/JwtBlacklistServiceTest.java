@@ -0,0 +1,117 @@
+package com.example.anonymous_board.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtBlacklistServiceTest {
+
+    private static final String SECRET = "V29vYWNvdXJzZUhJSkxNTk9QUVJTVFVWV1hZWjAxMjM0NTY3ODlrYWthb3RlY2gK";
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private JwtBlacklistService jwtBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        jwtBlacklistService = new JwtBlacklistService(redisTemplate, SECRET, 180000);
+    }
+
+    private static String hash(String token) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    // 이전 형식 이동이 끝난 상태로 동기화
+    private void syncWith(Set<ZSetOperations.TypedTuple<String>> entries) {
+        when(redisTemplate.hasKey("jwt:blacklist-legacy-migrated")).thenReturn(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScoreWithScores(eq("jwt:blacklist"), anyDouble(), anyDouble())).thenReturn(entries);
+        jwtBlacklistService.resync();
+    }
+
+    @Test
+    @DisplayName("동기화 후 - 무효화되지 않은 토큰은 Redis 조회 없이 통과")
+    void isBlacklisted_AfterSync_UsesMemoryOnly() {
+        // given
+        syncWith(Set.of());
+        clearInvocations(redisTemplate, zSetOperations);
+
+        // when & then
+        assertThat(jwtBlacklistService.isBlacklisted(TOKEN)).isFalse();
+        verifyNoInteractions(redisTemplate, zSetOperations);
+    }
+
+    @Test
+    @DisplayName("동기화 후 - Sorted Set에 있던 토큰은 무효")
+    void isBlacklisted_SyncedEntry_ReturnsTrue() throws Exception {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60000;
+        syncWith(Set.of(ZSetOperations.TypedTuple.of(hash(TOKEN), (double) expiresAt)));
+
+        // when & then
+        assertThat(jwtBlacklistService.isBlacklisted(TOKEN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Pub/Sub으로 받은 토큰은 동기화 전에도 Redis 조회 없이 무효")
+    void isBlacklisted_FromMessage_ReturnsTrue() throws Exception {
+        // given
+        String body = hash(TOKEN) + ":" + (System.currentTimeMillis() + 60000);
+        jwtBlacklistService.onMessage(new DefaultMessage(
+                "jwt-blacklist".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // when & then
+        assertThat(jwtBlacklistService.isBlacklisted(TOKEN)).isTrue();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("동기화 전 - Redis에서 직접 확인")
+    void isBlacklisted_BeforeSync_ChecksRedis() throws Exception {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.score("jwt:blacklist", hash(TOKEN)))
+                .thenReturn((double) (System.currentTimeMillis() + 60000));
+
+        // when & then
+        assertThat(jwtBlacklistService.isBlacklisted(TOKEN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("오랫동안 동기화하지 못했는데 Redis도 확인할 수 없으면 무효 (fail-closed)")
+    void isBlacklisted_StaleAndRedisDown_ReturnsTrue() {
+        // given (허용 시간 음수 -> 동기화 직후에도 오래된 것으로 처리)
+        jwtBlacklistService = new JwtBlacklistService(redisTemplate, SECRET, -1);
+        syncWith(Set.of());
+        when(zSetOperations.score(eq("jwt:blacklist"), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(jwtBlacklistService.isBlacklisted(TOKEN)).isTrue();
+    }
+}
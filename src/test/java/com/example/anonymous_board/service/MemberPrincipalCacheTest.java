@@ -0,0 +1,86 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.domain.MemberPrincipal;
+import com.example.anonymous_board.domain.Role;
+import com.example.anonymous_board.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        memberPrincipalCache = new MemberPrincipalCache(userRepository, redisTemplate, 30000);
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .username("user")
+                .email("user@example.com")
+                .password("encodedPassword")
+                .nickname("닉네임")
+                .role(Role.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 DB를 다시 조회하지 않음")
+    void getByEmail_Cached_QueriesOnce() {
+        // given
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(createMember()));
+
+        // when
+        MemberPrincipal first = memberPrincipalCache.getByEmail("user@example.com");
+        MemberPrincipal second = memberPrincipalCache.getByEmail("user@example.com");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(second.nickname()).isEqualTo("닉네임");
+        verify(userRepository, times(1)).findByEmail("user@example.com");
+    }
+
+    @Test
+    @DisplayName("인증 객체에는 비밀번호 해시가 없음")
+    void toMember_HasNoPassword() {
+        // given
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(createMember()));
+
+        // when
+        Member member = memberPrincipalCache.getByEmail("user@example.com").toMember();
+
+        // then
+        assertThat(member.getPassword()).isNull();
+        assertThat(member.getEmail()).isEqualTo("user@example.com");
+        assertThat(member.getRole()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 null")
+    void getByEmail_NotFound_ReturnsNull() {
+        // given
+        when(userRepository.findByEmail("none@example.com")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(memberPrincipalCache.getByEmail("none@example.com")).isNull();
+    }
+}
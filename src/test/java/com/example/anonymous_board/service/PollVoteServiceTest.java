@@ -0,0 +1,101 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.domain.Poll;
+import com.example.anonymous_board.domain.PollOption;
+import com.example.anonymous_board.domain.Post;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PollVoteServiceTest extends ConcurrentVoteTestSupport {
+
+    @Autowired
+    private PollVoteService pollVoteService;
+
+    // 선택지 2개짜리 투표가 있는 게시글 생성 (선택지 ID 반환)
+    private List<Long> createPoll(Member author) {
+        Post post = new Post();
+        post.setTitle("설문 테스트 게시글");
+        post.setContent("설문 테스트 내용");
+        post.setMember(author);
+        post.setNickname(author.getNickname());
+        Poll poll = new Poll("어느 쪽?", post);
+        poll.addOption(new PollOption("A"));
+        poll.addOption(new PollOption("B"));
+        post.setPoll(poll);
+        Post saved = savePost(post);
+        return saved.getPoll().getOptions().stream().map(PollOption::getId).toList();
+    }
+
+    private int voteCount(Long optionId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT vote_count FROM poll_option WHERE id = ?",
+                Integer.class, optionId);
+        return count != null ? count : 0;
+    }
+
+    private long voteRows(Long optionId) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM poll_vote WHERE option_id = ?",
+                Long.class, optionId);
+        return count != null ? count : 0;
+    }
+
+    @Test
+    @DisplayName("투표 상태 변경 - 새 투표, 같은 항목, 항목 변경")
+    void vote_StateTransitions() {
+        // given
+        List<Long> options = createPoll(createMember());
+        Long voterId = createMember().getId();
+
+        // when & then
+        assertThat(pollVoteService.vote(options.get(0), voterId)).isTrue();
+        assertThat(voteCount(options.get(0))).isEqualTo(1);
+
+        assertThat(pollVoteService.vote(options.get(0), voterId)).isFalse();
+        assertThat(voteCount(options.get(0))).isEqualTo(1);
+
+        assertThat(pollVoteService.vote(options.get(1), voterId)).isTrue();
+        assertThat(voteCount(options.get(0))).isZero();
+        assertThat(voteCount(options.get(1))).isEqualTo(1);
+        assertThat(voteRows(options.get(0)) + voteRows(options.get(1))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 투표 항목 - 예외 발생")
+    void vote_UnknownOption_ThrowsException() {
+        Long voterId = createMember().getId();
+
+        assertThatThrownBy(() -> pollVoteService.vote(-1L, voterId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 투표 항목입니다.");
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 투표 - 투표 행 하나, 투표 수 일치")
+    void vote_ConcurrentSameMember_Consistent() throws Exception {
+        // given
+        List<Long> options = createPoll(createMember());
+        Long voterId = createMember().getId();
+        int requestCount = 20;
+
+        // when: A/B를 번갈아 동시에 선택
+        AtomicInteger applied = new AtomicInteger();
+        runConcurrently(requestCount, i -> {
+            if (retry(() -> pollVoteService.vote(options.get(i % 2), voterId))) {
+                applied.incrementAndGet();
+            }
+        });
+
+        // then: 투표 행은 정확히 하나이고, 그 행의 선택지만 투표 수 1
+        assertThat(applied.get()).isEqualTo(requestCount);
+        assertThat(voteRows(options.get(0)) + voteRows(options.get(1))).isEqualTo(1);
+        assertThat(voteCount(options.get(0))).isEqualTo((int) voteRows(options.get(0)));
+        assertThat(voteCount(options.get(1))).isEqualTo((int) voteRows(options.get(1)));
+    }
+}
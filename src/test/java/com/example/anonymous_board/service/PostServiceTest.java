@@ -3,13 +3,12 @@ package com.example.anonymous_board.service;
 import com.example.anonymous_board.domain.Member;
 import com.example.anonymous_board.domain.Post;
 import com.example.anonymous_board.domain.Role;
-import com.example.anonymous_board.domain.Vote;
 import com.example.anonymous_board.domain.VoteType;
-import com.example.anonymous_board.repository.PollOptionRepository;
-import com.example.anonymous_board.repository.PollVoteRepository;
+import com.example.anonymous_board.dto.KeysetCursor;
+import com.example.anonymous_board.dto.PostSummaryResponse;
 import com.example.anonymous_board.repository.PostRepository;
+import com.example.anonymous_board.repository.PostStatsRepository;
 import com.example.anonymous_board.repository.UserRepository;
-import com.example.anonymous_board.repository.VoteRepository;
 import java.lang.reflect.Field;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,15 +17,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,13 +42,13 @@ class PostServiceTest {
     private PostRepository postRepository;
 
     @Mock
-    private VoteRepository voteRepository;
+    private PostStatsRepository postStatsRepository;
 
     @Mock
-    private PollOptionRepository pollOptionRepository;
+    private VoteCountService voteCountService;
 
     @Mock
-    private PollVoteRepository pollVoteRepository;
+    private PollVoteService pollVoteService;
 
     @Mock
     private FileStorageService fileStorageService;
@@ -53,18 +59,30 @@ class PostServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostSearchService postSearchService;
+
+    @Mock
+    private AnnouncementRegistry announcementRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PostService postService;
 
     @BeforeEach
     void setUp() {
         postService = new PostService(
                 postRepository,
-                voteRepository,
-                pollOptionRepository,
-                pollVoteRepository,
+                postStatsRepository,
+                voteCountService,
+                pollVoteService,
                 fileStorageService,
                 hotPostsCacheService,
-                userRepository);
+                userRepository,
+                postSearchService,
+                announcementRegistry,
+                eventPublisher);
     }
 
     // 테스트용 Member 생성 헬퍼
@@ -109,16 +127,14 @@ class PostServiceTest {
         Post post = createTestPost(1L, author);
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(voteRepository.findByMemberAndPost(voter, post)).thenReturn(Optional.empty());
+        when(voteCountService.vote(1L, 2L, VoteType.LIKE)).thenReturn(1);
 
         // when
         postService.vote(1L, voter, VoteType.LIKE);
 
         // then
-        assertThat(post.getLikes()).isEqualTo(1);
-        assertThat(post.getDislikes()).isEqualTo(0);
-        verify(voteRepository).save(any(Vote.class));
-        verify(hotPostsCacheService).invalidateCache(); // 캐시 무효화 확인
+        verify(voteCountService).vote(1L, 2L, VoteType.LIKE);
+        verify(eventPublisher).publishEvent(new HotPostsCacheService.VoteApplied(1L, post.getCreatedAt(), 1)); // 랭킹 점수 갱신 확인
     }
 
     @Test
@@ -130,16 +146,14 @@ class PostServiceTest {
         Post post = createTestPost(1L, author);
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(voteRepository.findByMemberAndPost(voter, post)).thenReturn(Optional.empty());
+        when(voteCountService.vote(1L, 2L, VoteType.DISLIKE)).thenReturn(-1);
 
         // when
         postService.vote(1L, voter, VoteType.DISLIKE);
 
         // then
-        assertThat(post.getLikes()).isEqualTo(0);
-        assertThat(post.getDislikes()).isEqualTo(1);
-        verify(voteRepository).save(any(Vote.class));
-        verify(hotPostsCacheService).invalidateCache();
+        verify(voteCountService).vote(1L, 2L, VoteType.DISLIKE);
+        verify(eventPublisher).publishEvent(new HotPostsCacheService.VoteApplied(1L, post.getCreatedAt(), -1));
     }
 
     @Test
@@ -156,78 +170,26 @@ class PostServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("자신의 글에는 추천/비추천할 수 없습니다");
 
-        verify(voteRepository, never()).save(any());
-        verify(hotPostsCacheService, never()).invalidateCache();
+        verify(voteCountService, never()).vote(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(HotPostsCacheService.VoteApplied.class));
     }
 
     @Test
-    @DisplayName("중복 추천 투표 - 투표 취소")
-    void vote_Like_Duplicate_CancelVote() {
+    @DisplayName("투표 변경 - 랭킹 점수에 변화량 반영")
+    void vote_Change_AppliesNetDelta() {
         // given
         Member author = createTestMember(1L, "author");
         Member voter = createTestMember(2L, "voter");
         Post post = createTestPost(1L, author);
-        post.setLikes(1); // 이미 추천 1개
 
-        Vote existingVote = new Vote(voter, post, VoteType.LIKE);
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(voteRepository.findByMemberAndPost(voter, post)).thenReturn(Optional.of(existingVote));
+        when(voteCountService.vote(1L, 2L, VoteType.LIKE)).thenReturn(2); // 비추천 -> 추천
 
         // when
         postService.vote(1L, voter, VoteType.LIKE);
 
         // then
-        assertThat(post.getLikes()).isEqualTo(0); // 추천 취소됨
-        verify(voteRepository).delete(existingVote);
-        verify(hotPostsCacheService).invalidateCache();
-    }
-
-    @Test
-    @DisplayName("투표 변경 - 비추천에서 추천으로")
-    void vote_ChangeFromDislikeToLike() {
-        // given
-        Member author = createTestMember(1L, "author");
-        Member voter = createTestMember(2L, "voter");
-        Post post = createTestPost(1L, author);
-        post.setDislikes(1); // 이미 비추천 1개
-
-        Vote existingVote = new Vote(voter, post, VoteType.DISLIKE);
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(voteRepository.findByMemberAndPost(voter, post)).thenReturn(Optional.of(existingVote));
-
-        // when
-        postService.vote(1L, voter, VoteType.LIKE);
-
-        // then
-        assertThat(post.getLikes()).isEqualTo(1); // 추천 증가
-        assertThat(post.getDislikes()).isEqualTo(0); // 비추천 감소
-        assertThat(existingVote.getVoteType()).isEqualTo(VoteType.LIKE); // 투표 타입 변경
-        verify(voteRepository).save(existingVote);
-        verify(hotPostsCacheService).invalidateCache();
-    }
-
-    @Test
-    @DisplayName("투표 변경 - 추천에서 비추천으로")
-    void vote_ChangeFromLikeToDislike() {
-        // given
-        Member author = createTestMember(1L, "author");
-        Member voter = createTestMember(2L, "voter");
-        Post post = createTestPost(1L, author);
-        post.setLikes(1); // 이미 추천 1개
-
-        Vote existingVote = new Vote(voter, post, VoteType.LIKE);
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(voteRepository.findByMemberAndPost(voter, post)).thenReturn(Optional.of(existingVote));
-
-        // when
-        postService.vote(1L, voter, VoteType.DISLIKE);
-
-        // then
-        assertThat(post.getLikes()).isEqualTo(0); // 추천 감소
-        assertThat(post.getDislikes()).isEqualTo(1); // 비추천 증가
-        assertThat(existingVote.getVoteType()).isEqualTo(VoteType.DISLIKE);
-        verify(voteRepository).save(existingVote);
-        verify(hotPostsCacheService).invalidateCache();
+        verify(eventPublisher).publishEvent(new HotPostsCacheService.VoteApplied(1L, post.getCreatedAt(), 2));
     }
 
     @Test
@@ -267,15 +229,15 @@ class PostServiceTest {
         // given
         Member author = createTestMember(1L, "author");
         Post hotPost = createTestPost(1L, author);
-        hotPost.setLikes(15);
-        hotPost.setDislikes(3); // 네트 스코어 12점
+        hotPost.getStats().setLikes(15);
+        hotPost.getStats().setDislikes(3); // 네트 스코어 12점
 
-        PageImpl<Post> page = new PageImpl<>(
-                Collections.singletonList(hotPost),
+        when(hotPostsCacheService.getHotPostIds(0, 10)).thenReturn(new PageImpl<>(
+                Collections.singletonList(1L),
                 PageRequest.of(0, 10),
-                1);
-
-        when(postRepository.findHotPosts(eq(10), any())).thenReturn(page);
+                1));
+        when(postRepository.findAllWithMemberByIdIn(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(hotPost));
 
         // when
         Page<Post> result = postService.getHotPosts(0, 10);
@@ -287,20 +249,72 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("조회수 증가 성공")
-    void incrementViewCount_Success() {
+    @DisplayName("게시글 검색 - 검색 인덱스의 관련도 순서 유지")
+    void searchPosts_KeepsRelevanceOrder() {
         // given
         Member author = createTestMember(1L, "author");
-        Post post = createTestPost(1L, author);
-        post.setViewCount(5);
+        Post first = createTestPost(2L, author);
+        Post second = createTestPost(1L, author);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postSearchService.searchPostIds(eq("테스트"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Arrays.asList(2L, 1L), PageRequest.of(0, 10), 2));
+        when(postRepository.findAllWithMemberByIdIn(Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(second, first));
+
+        // when
+        Page<Post> result = postService.searchPosts("테스트", 0, 10);
+
+        // then
+        assertThat(result.getContent()).extracting(Post::getId).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 첫 페이지 - 공지사항 수만큼 일반 게시글을 줄여서 조회 (공지사항은 DB 조회 없음)")
+    void getAllPosts_FirstPage_ReservesAnnouncementSlots() {
+        // given
+        Member admin = createTestMember(1L, "admin");
+        Post announcement = createTestPost(9L, admin);
+        announcement.setAnnouncement(true);
+        when(announcementRegistry.getAnnouncements(null))
+                .thenReturn(Collections.singletonList(new PostSummaryResponse(announcement, null, 0)));
+        when(postRepository.findNonAnnouncementPosts(any(Pageable.class))).thenReturn(Page.empty());
 
         // when
-        postService.incrementViewCount(1L);
+        postService.getAllPosts(0, 10, "latest");
 
         // then
-        assertThat(post.getViewCount()).isEqualTo(6);
+        verify(postRepository).findNonAnnouncementPosts(argThat(pageable -> pageable.getPageSize() == 9));
+        verify(postRepository, never()).findAnnouncements();
+    }
+
+    @Test
+    @DisplayName("커서 기반 피드 조회 - 커서 위치 이후의 게시글만 조회")
+    void getFeed_WithCursor_UsesKeysetQuery() {
+        // given
+        Member author = createTestMember(1L, "author");
+        Post post = createTestPost(4L, author);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new KeysetCursor(createdAt, 5L).encode();
+
+        when(postRepository.findFeedAfter(eq(createdAt), eq(5L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(post), PageRequest.of(0, 10), true));
+
+        // when
+        Slice<Post> result = postService.getFeed(null, cursor, 10);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        verify(postRepository, never()).findFeed(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 기반 피드 조회 - 잘못된 커서는 예외 발생")
+    void getFeed_InvalidCursor_ThrowsException() {
+        assertThatThrownBy(() -> postService.getFeed(null, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
     }
 
     @Test
@@ -334,6 +348,26 @@ class PostServiceTest {
         postService.deletePost(1L, author);
 
         // then
+        verify(postStatsRepository).deleteById(1L);
         verify(postRepository).delete(post);
+        verify(eventPublisher).publishEvent(new HotPostsCacheService.PostRemoved(1L));
+        verify(eventPublisher, never()).publishEvent(any(AnnouncementRegistry.AnnouncementsChanged.class));
+    }
+
+    @Test
+    @DisplayName("공지사항 삭제 - 공지사항 목록 갱신 이벤트 발행")
+    void deletePost_Announcement_PublishesChange() {
+        // given
+        Member admin = createTestMember(1L, "admin");
+        Post post = createTestPost(1L, admin);
+        post.setAnnouncement(true);
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+
+        // when
+        postService.deletePost(1L, admin);
+
+        // then
+        verify(eventPublisher).publishEvent(new AnnouncementRegistry.AnnouncementsChanged(1L));
     }
 }
@@ -60,6 +60,9 @@ class UserServiceTest {
     @Mock
     private ActiveTokenService activeTokenService;
 
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
+
     private UserService userService;
 
     @BeforeEach
@@ -76,7 +79,8 @@ class UserServiceTest {
                 pollVoteRepository,
                 messageRepository,
                 userConversationRepository,
-                activeTokenService);
+                activeTokenService,
+                memberPrincipalCache);
     }
 
     @Test
@@ -141,6 +145,9 @@ class UserServiceTest {
         String wrongCurrentPassword = "wrongPassword";
         String newPassword = "newPassword123";
 
+        // 인증 객체 대신 DB에서 다시 조회한 사용자의 비밀번호로 확인
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+
         // 현재 비밀번호 불일치
         when(passwordEncoder.matches(wrongCurrentPassword, user.getPassword())).thenReturn(false);
 
@@ -274,4 +281,25 @@ class UserServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("사용자를 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("사용자 정지 - 인증 사용자 캐시 제거")
+    void suspendUser_EvictsPrincipalCache() {
+        // given
+        Member member = Member.builder()
+                .username("testuser")
+                .email("test@example.com")
+                .nickname("테스트")
+                .provider("local")
+                .build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // when
+        userService.suspendUser(1L, 7, "스팸");
+
+        // then
+        assertThat(member.isCurrentlySuspended()).isTrue();
+        verify(memberPrincipalCache).evict(1L);
+    }
 }
@@ -0,0 +1,141 @@
+package com.example.anonymous_board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private ViewCountService createService(String dedupMode) {
+        return new ViewCountService(redisTemplate, stringRedisTemplate, jdbcTemplate, transactionTemplate,
+                dedupMode, 1_000_000L, 0.01);
+    }
+
+    private String todayBloomKey() {
+        return "view:bloom:" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    @Test
+    @DisplayName("EXACT 모드 - 처음 조회하면 조회자별 키를 24시간 기록하고 true")
+    void exact_FirstView_ReturnsTrue() {
+        // given
+        ViewCountService service = createService("exact");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent("view:post:1:user:7", "1", Duration.ofHours(24))).thenReturn(true);
+
+        // when & then
+        assertThat(service.canIncrementViewCount(1L, "user:7")).isTrue();
+    }
+
+    @Test
+    @DisplayName("EXACT 모드 - 이미 조회했으면 false")
+    void exact_DuplicateView_ReturnsFalse() {
+        // given
+        ViewCountService service = createService("exact");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent("view:post:1:user:7", "1", Duration.ofHours(24))).thenReturn(false);
+
+        // when & then
+        assertThat(service.canIncrementViewCount(1L, "user:7")).isFalse();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("BLOOM 모드 - 모든 게시글이 오늘 날짜의 비트맵 하나를 함께 사용")
+    void bloom_UsesSharedDailyFilter() {
+        // given
+        ViewCountService service = createService("bloom");
+        when(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(todayBloomKey())),
+                any(Object[].class))).thenReturn(1L, 0L);
+
+        // when & then
+        assertThat(service.canIncrementViewCount(1L, "user:7")).isTrue();
+        assertThat(service.canIncrementViewCount(2L, "user:7")).isFalse();
+        verify(stringRedisTemplate, times(2)).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(todayBloomKey())), any(Object[].class));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("BLOOM 모드 - 예상 조회 수와 오탐률로 비트 위치 개수와 범위 결정")
+    void bloom_ArgsSizedByExpectedViews() {
+        // given (n = 1,000,000, p = 0.01 -> m 약 958만 비트, k = 7)
+        ViewCountService service = createService("bloom");
+        when(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                any(Object[].class))).thenReturn(1L);
+
+        // when
+        service.canIncrementViewCount(1L, "ip:127.0.0.1");
+
+        // then
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                argsCaptor.capture());
+        Object[] args = argsCaptor.getValue();
+
+        assertThat(args).hasSize(8);
+        assertThat(args[0]).isEqualTo(String.valueOf(Duration.ofHours(48).getSeconds()));
+        for (int i = 1; i < args.length; i++) {
+            assertThat(Long.parseLong(args[i].toString())).isBetween(0L, 9_585_058L);
+        }
+    }
+
+    @Test
+    @DisplayName("BLOOM 모드 - 같은 (게시글, 조회자)는 같은 비트, 다른 게시글은 다른 비트")
+    void bloom_ArgsDependOnPostAndViewer() {
+        // given
+        ViewCountService service = createService("bloom");
+
+        // when & then
+        assertThat(service.bloomArgs(1L, "user:7")).containsExactly(service.bloomArgs(1L, "user:7"));
+        assertThat(service.bloomArgs(1L, "user:7")).isNotEqualTo(service.bloomArgs(2L, "user:7"));
+        assertThat(service.bloomArgs(1L, "user:7")).isNotEqualTo(service.bloomArgs(1L, "user:8"));
+    }
+
+    @Test
+    @DisplayName("Bloom filter 설정이 올바르지 않으면 예외")
+    void bloom_InvalidSettings_ThrowsException() {
+        assertThatThrownBy(() -> new ViewCountService(redisTemplate, stringRedisTemplate, jdbcTemplate,
+                transactionTemplate, "bloom", 0L, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ViewCountService(redisTemplate, stringRedisTemplate, jdbcTemplate,
+                transactionTemplate, "bloom", 1000L, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.anonymous_board.service;
+
+import com.example.anonymous_board.domain.Member;
+import com.example.anonymous_board.domain.Post;
+import com.example.anonymous_board.domain.VoteType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteCountServiceTest extends ConcurrentVoteTestSupport {
+
+    @Autowired
+    private VoteCountService voteCountService;
+
+    private Post createPost(Member author) {
+        Post post = new Post();
+        post.setTitle("투표 테스트 게시글");
+        post.setContent("투표 테스트 내용");
+        post.setMember(author);
+        post.setNickname(author.getNickname());
+        return savePost(post);
+    }
+
+    private int[] counts(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT likes, dislikes FROM post_stats WHERE post_id = ?",
+                (rs, rowNum) -> new int[] { rs.getInt(1), rs.getInt(2) }, postId);
+    }
+
+    private long voteRows(Long postId, VoteType voteType) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vote WHERE post_id = ? AND vote_type = ?",
+                Long.class, postId, voteType.name());
+        return count != null ? count : 0;
+    }
+
+    @Test
+    @DisplayName("투표 상태 변경 - 새 투표, 변경, 취소")
+    void vote_StateTransitions() {
+        // given
+        Post post = createPost(createMember());
+        Member voter = createMember();
+
+        // when & then
+        assertThat(voteCountService.vote(post.getId(), voter.getId(), VoteType.LIKE)).isEqualTo(1);
+        assertThat(counts(post.getId())).containsExactly(1, 0);
+
+        assertThat(voteCountService.vote(post.getId(), voter.getId(), VoteType.DISLIKE)).isEqualTo(-2);
+        assertThat(counts(post.getId())).containsExactly(0, 1);
+
+        assertThat(voteCountService.vote(post.getId(), voter.getId(), VoteType.DISLIKE)).isEqualTo(1);
+        assertThat(counts(post.getId())).containsExactly(0, 0);
+        assertThat(voteRows(post.getId(), VoteType.LIKE) + voteRows(post.getId(), VoteType.DISLIKE)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 투표 - 추천/비추천 수 유실 없음")
+    void vote_Concurrent_ExactTotals() throws Exception {
+        // given
+        Post post = createPost(createMember());
+        int voterCount = 40;
+        List<Member> voters = new ArrayList<>();
+        for (int i = 0; i < voterCount; i++) {
+            voters.add(createMember());
+        }
+
+        // when: 모두 추천 -> 비추천으로 변경, 짝수 번째 사용자는 비추천을 한 번 더 눌러 취소
+        runConcurrently(voterCount, i -> {
+            Long voterId = voters.get(i).getId();
+            voteCountService.vote(post.getId(), voterId, VoteType.LIKE);
+            voteCountService.vote(post.getId(), voterId, VoteType.DISLIKE);
+            if (i % 2 == 0) {
+                voteCountService.vote(post.getId(), voterId, VoteType.DISLIKE);
+            }
+        });
+
+        // then
+        assertThat(counts(post.getId())).containsExactly(0, voterCount / 2);
+        assertThat(voteRows(post.getId(), VoteType.LIKE)).isZero();
+        assertThat(voteRows(post.getId(), VoteType.DISLIKE)).isEqualTo(voterCount / 2);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 투표 - 요청마다 정확히 한 번씩 반영")
+    void vote_ConcurrentSameMember_Consistent() throws Exception {
+        // given
+        Post post = createPost(createMember());
+        Long voterId = createMember().getId();
+        int requestCount = 21;
+
+        // when: 같은 타입 투표는 새 투표/취소를 번갈아 반영하므로 홀수 번 반영되면 추천 하나만 남음
+        AtomicInteger applied = new AtomicInteger();
+        runConcurrently(requestCount, i -> {
+            if (retry(() -> voteCountService.vote(post.getId(), voterId, VoteType.LIKE))) {
+                applied.incrementAndGet();
+            }
+        });
+
+        // then: 투표 행은 정확히 하나, 추천 수 1
+        assertThat(applied.get()).isEqualTo(requestCount);
+        assertThat(voteRows(post.getId(), VoteType.LIKE)).isEqualTo(1);
+        assertThat(counts(post.getId())).containsExactly(1, 0);
+    }
+}